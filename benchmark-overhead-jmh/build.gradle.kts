@@ -9,6 +9,7 @@ plugins {
 
 dependencies {
   jmhImplementation("org.springframework.boot:spring-boot-starter-web:3.3.4")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
 }
 
 tasks {
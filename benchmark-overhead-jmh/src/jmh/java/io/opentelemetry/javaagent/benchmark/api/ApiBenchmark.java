@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.api;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the calls of an application to the OpenTelemetry API, which the agent bridges to its own
+ * copy of the API.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class ApiBenchmark {
+
+  private static final AttributeKey<String> KEY = AttributeKey.stringKey("benchmark.key");
+  private static final Attributes ATTRIBUTES =
+      Attributes.of(KEY, "value", AttributeKey.longKey("benchmark.count"), 42L);
+
+  private Tracer tracer;
+  private Span span;
+  private Context context;
+
+  @Setup
+  public void setup() {
+    tracer = createTracer();
+    span = tracer.spanBuilder("benchmark").startSpan();
+    context = Context.current().with(span);
+  }
+
+  @TearDown
+  public void tearDown() {
+    span.end();
+  }
+
+  protected Tracer createTracer() {
+    return GlobalOpenTelemetry.getTracer("benchmark");
+  }
+
+  @Benchmark
+  public Span setAttribute() {
+    return span.setAttribute(KEY, "value");
+  }
+
+  @Benchmark
+  public Span addEvent() {
+    return span.addEvent("event", ATTRIBUTES);
+  }
+
+  @Benchmark
+  public SpanContext getSpanContext() {
+    return span.getSpanContext();
+  }
+
+  @Benchmark
+  public void makeCurrent() {
+    try (Scope ignored = context.makeCurrent()) {
+      // measures attaching and detaching the context
+    }
+  }
+
+  @Benchmark
+  public Context makeCurrentAndGetCurrent() {
+    try (Scope ignored = context.makeCurrent()) {
+      return Context.current();
+    }
+  }
+
+  @Benchmark
+  public Span startSpan() {
+    Span child = tracer.spanBuilder("child").setAttribute(KEY, "value").startSpan();
+    child.end();
+    return child;
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.api;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.openjdk.jmh.annotations.Fork;
+
+/** The same calls made directly to an SDK that the application brings. */
+@Fork(jvmArgsAppend = "-Dotel.javaagent.enabled=false")
+public class ApiWithAgentDisabledBenchmark extends ApiBenchmark {
+
+  @Override
+  protected Tracer createTracer() {
+    return SdkTracerProvider.builder().build().get("benchmark");
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.executors;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Submits 10M tasks to {@code Executors.newVirtualThreadPerTaskExecutor()} from inside a span, the
+ * agent propagates the context to each of the virtual threads. Requires java 21+.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+  private static final int TASKS = 10_000_000;
+
+  private final LongAdder propagated = new LongAdder();
+  private Span span;
+
+  @Setup
+  public void setup() {
+    span = GlobalOpenTelemetry.getTracer("benchmark").spanBuilder("benchmark").startSpan();
+  }
+
+  @TearDown
+  public void tearDown() {
+    span.end();
+  }
+
+  @Benchmark
+  public long executeRunnable() throws Exception {
+    return run(executor -> executor.execute(this::task));
+  }
+
+  @Benchmark
+  public long submitCallable() throws Exception {
+    return run(
+        executor ->
+            executor.submit(
+                () -> {
+                  task();
+                  return null;
+                }));
+  }
+
+  private long run(Submitter submitter) throws Exception {
+    propagated.reset();
+    ExecutorService executor = newVirtualThreadPerTaskExecutor();
+    try (io.opentelemetry.context.Scope ignored = Context.current().with(span).makeCurrent()) {
+      for (int i = 0; i < TASKS; i++) {
+        submitter.submit(executor);
+      }
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.HOURS);
+    return propagated.sum();
+  }
+
+  private void task() {
+    if (Span.current().getSpanContext().isValid()) {
+      propagated.increment();
+    }
+  }
+
+  // this module compiles for java 8
+  private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+    return (ExecutorService)
+        Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+  }
+
+  private interface Submitter {
+    void submit(ExecutorService executor);
+  }
+}
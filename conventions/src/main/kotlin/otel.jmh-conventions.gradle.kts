@@ -1,3 +1,5 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("me.champeau.jmh")
   id("io.morethan.jmhreport")
@@ -36,3 +38,12 @@ tasks {
     outputs.cacheIf { false }
   }
 }
+
+plugins.withId("net.ltgt.errorprone") {
+  // the sources generated by jmh don't pass the errorprone checks
+  tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class SqlStatementSanitizerBenchmark {
+
+  private static final int SCAN_LIMIT = 10 * AutoSqlSanitizer.LIMIT;
+
+  @Param({"shortSelect", "bulkInsert1Mb", "bulkInsertStrings1Mb", "hugeInList"})
+  public String corpus;
+
+  private String statement;
+
+  @Setup
+  public void setUp() {
+    switch (corpus) {
+      case "shortSelect":
+        statement = "SELECT id, name, email FROM users u WHERE u.id = 1234 AND u.active = 'Y'";
+        break;
+      case "bulkInsert1Mb":
+        statement =
+            repeat("INSERT INTO orders (id, customer_id, amount) VALUES ", "(1234, 5678, 12.5),");
+        break;
+      case "bulkInsertStrings1Mb":
+        // quoted strings are sanitized to a single character, so the sanitized statement stays
+        // short while the whole statement has to be scanned
+        statement =
+            repeat(
+                "INSERT INTO events (payload) VALUES ",
+                "('{\"type\":\"click\",\"target\":\"button\",\"ts\":1700000000000}'),");
+        break;
+      case "hugeInList":
+        statement = repeat("SELECT * FROM users WHERE id IN (", "?, ") + "?)";
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown corpus " + corpus);
+    }
+  }
+
+  private static String repeat(String prefix, String fragment) {
+    StringBuilder sb = new StringBuilder(prefix);
+    while (sb.length() < 1024 * 1024) {
+      sb.append(fragment);
+    }
+    sb.setLength(sb.length() - 1);
+    return sb.toString();
+  }
+
+  @Benchmark
+  public SqlStatementInfo sanitize() {
+    return AutoSqlSanitizer.sanitize(statement, SqlDialect.DEFAULT, SCAN_LIMIT);
+  }
+
+  @Benchmark
+  public SqlStatementInfo sanitizeWithoutScanLimit() {
+    return AutoSqlSanitizer.sanitize(statement, SqlDialect.DEFAULT);
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.SQL_STATEMENT_SANITIZER_CACHE_EVICTION;
+import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.SQL_STATEMENT_SANITIZER_CACHE_HIT;
+import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.SQL_STATEMENT_SANITIZER_CACHE_MISS;
+
+import io.opentelemetry.instrumentation.api.internal.GuardedBy;
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * A bounded cache of sanitized statements of all the {@link SqlDialect}s, split into independently
+ * locked segments.
+ *
+ * <p>Lookups are lock-free reads of a {@link ConcurrentHashMap} per dialect keyed by the statement
+ * itself, so no key object is allocated on a hit. The capacity is shared by all the dialects. Only
+ * inserting a newly sanitized statement takes the lock of its segment. When a segment is full, a
+ * TinyLFU-style admission policy compares the estimated access frequency of the new statement with
+ * the one of the oldest cached statement, and only replaces it when the new statement is accessed
+ * more often. This keeps frequently executed statements cached when the application issues many
+ * more distinct statements than fit in the cache.
+ */
+final class SqlStatementInfoCache {
+
+  private static final SupportabilityMetrics.Counter cacheHits =
+      SupportabilityMetrics.instance().counter(SQL_STATEMENT_SANITIZER_CACHE_HIT);
+  private static final SupportabilityMetrics.Counter cacheMisses =
+      SupportabilityMetrics.instance().counter(SQL_STATEMENT_SANITIZER_CACHE_MISS);
+  private static final SupportabilityMetrics.Counter cacheEvictions =
+      SupportabilityMetrics.instance().counter(SQL_STATEMENT_SANITIZER_CACHE_EVICTION);
+
+  private static final int MAX_SEGMENTS = 16;
+  // segments smaller than that would make the admission policy too coarse
+  private static final int MIN_SEGMENT_CAPACITY = 64;
+
+  private final BiFunction<String, SqlDialect, SqlStatementInfo> sanitizer;
+  private final Segment[] segments;
+  private final int segmentMask;
+
+  SqlStatementInfoCache(int capacity, BiFunction<String, SqlDialect, SqlStatementInfo> sanitizer) {
+    this.sanitizer = sanitizer;
+    int segmentCount = 1;
+    while (segmentCount < MAX_SEGMENTS && capacity / (segmentCount * 2) >= MIN_SEGMENT_CAPACITY) {
+      segmentCount *= 2;
+    }
+    int segmentCapacity = Math.max(1, capacity / segmentCount);
+    segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment(segmentCapacity);
+    }
+    segmentMask = segmentCount - 1;
+  }
+
+  /** Returns the cached sanitized statement, sanitizing it if it is not cached yet. */
+  SqlStatementInfo get(String statement, SqlDialect dialect) {
+    int hash = hash(statement, dialect);
+    Segment segment = segments[hash & segmentMask];
+    segment.sketch.increment(hash);
+
+    SqlStatementInfo value = segment.maps[dialect.ordinal()].get(statement);
+    if (value != null) {
+      cacheHits.increment();
+      return value;
+    }
+
+    cacheMisses.increment();
+    value = sanitizer.apply(statement, dialect);
+    return segment.admit(statement, dialect, hash, value);
+  }
+
+  // visible for testing
+  int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      for (ConcurrentHashMap<String, SqlStatementInfo> map : segment.maps) {
+        size += map.size();
+      }
+    }
+    return size;
+  }
+
+  // visible for testing
+  boolean contains(String statement, SqlDialect dialect) {
+    Segment segment = segments[hash(statement, dialect) & segmentMask];
+    return segment.maps[dialect.ordinal()].containsKey(statement);
+  }
+
+  private static int hash(String statement, SqlDialect dialect) {
+    return spread(31 * statement.hashCode() + dialect.ordinal());
+  }
+
+  // spreads the higher bits of the hash code so that both the segment index and the sketch
+  // indexes are derived from well distributed bits
+  private static int spread(int hashCode) {
+    int h = hashCode * 0x9e3779b9;
+    return h ^ (h >>> 16);
+  }
+
+  private static final class Segment {
+    private final int capacity;
+    // indexed by the dialect ordinal, the tables are only allocated on the first insertion
+    private final ConcurrentHashMap<String, SqlStatementInfo>[] maps;
+    private final FrequencySketch sketch;
+
+    // statements of all the dialects in insertion order, the head is the next eviction candidate
+    @GuardedBy("this")
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Segment(int capacity) {
+      this.capacity = capacity;
+      this.maps = new ConcurrentHashMap[SqlDialect.values().length];
+      for (int i = 0; i < maps.length; i++) {
+        maps[i] = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+      }
+      this.sketch = new FrequencySketch(capacity);
+    }
+
+    synchronized SqlStatementInfo admit(
+        String statement, SqlDialect dialect, int hash, SqlStatementInfo value) {
+      ConcurrentHashMap<String, SqlStatementInfo> map = maps[dialect.ordinal()];
+      SqlStatementInfo existing = map.get(statement);
+      if (existing != null) {
+        return existing;
+      }
+      if (queue.size() < capacity) {
+        map.put(statement, value);
+        queue.addLast(new Entry(statement, dialect));
+        return value;
+      }
+
+      Entry victim = queue.pollFirst();
+      if (sketch.frequency(hash) > sketch.frequency(hash(victim.statement, victim.dialect))) {
+        maps[victim.dialect.ordinal()].remove(victim.statement);
+        map.put(statement, value);
+        queue.addLast(new Entry(statement, dialect));
+        cacheEvictions.increment();
+      } else {
+        // the candidate is rejected; the victim gets a second chance so that the next candidate
+        // is compared against a different statement
+        queue.addLast(victim);
+      }
+      return value;
+    }
+  }
+
+  private static final class Entry {
+    private final String statement;
+    private final SqlDialect dialect;
+
+    Entry(String statement, SqlDialect dialect) {
+      this.statement = statement;
+      this.dialect = dialect;
+    }
+  }
+
+  /**
+   * A count-min sketch of 4-bit counters estimating how often a statement was looked up. Counters
+   * are halved periodically so that the estimate favors recent accesses. Updates are not
+   * synchronized: lost increments only make the estimate slightly less accurate.
+   */
+  private static final class FrequencySketch {
+    private static final long[] SEEDS = {
+      0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final int MAX_COUNT = 15;
+
+    private final byte[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+      // 16 counters per cached entry keep the collisions rare enough for the estimate to be useful
+      int size = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 5;
+      table = new byte[size];
+      tableMask = size - 1;
+      sampleSize = 10 * Math.max(capacity, 16);
+    }
+
+    void increment(int hash) {
+      for (long seed : SEEDS) {
+        int index = indexOf(hash, seed);
+        if (table[index] < MAX_COUNT) {
+          table[index]++;
+        }
+      }
+      if (++additions >= sampleSize) {
+        reset();
+      }
+    }
+
+    int frequency(int hash) {
+      int frequency = MAX_COUNT;
+      for (long seed : SEEDS) {
+        frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+      }
+      return frequency;
+    }
+
+    private int indexOf(int hash, long seed) {
+      long h = (hash + seed) * seed;
+      h += h >>> 32;
+      return (int) h & tableMask;
+    }
+
+    private void reset() {
+      additions = 0;
+      for (int i = 0; i < table.length; i++) {
+        table[i] = (byte) (table[i] >>> 1);
+      }
+    }
+  }
+}
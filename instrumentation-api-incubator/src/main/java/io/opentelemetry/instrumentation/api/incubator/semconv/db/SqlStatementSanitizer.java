@@ -5,11 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
-import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.SQL_STATEMENT_SANITIZER_CACHE_MISS;
-
-import com.google.auto.value.AutoValue;
-import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
-import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
 import javax.annotation.Nullable;
 
 /**
@@ -17,10 +13,21 @@ import javax.annotation.Nullable;
  * statements and queries.
  */
 public final class SqlStatementSanitizer {
-  private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
-
-  private static final Cache<CacheKey, SqlStatementInfo> sqlToStatementInfoCache =
-      Cache.bounded(1000);
+  private static final int CACHE_SIZE =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.common.db-statement-sanitizer.experimental.cache-size", 1000);
+
+  // statements longer than that are only sanitized up to that length
+  private static final int SCAN_LIMIT =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.common.db-statement-sanitizer.experimental.scan-limit",
+          10 * AutoSqlSanitizer.LIMIT);
+
+  // shared by all the dialects, so that the configured size bounds all the cached statements
+  private static final SqlStatementInfoCache sqlToStatementInfoCache =
+      new SqlStatementInfoCache(
+          CACHE_SIZE,
+          (statement, dialect) -> AutoSqlSanitizer.sanitize(statement, dialect, SCAN_LIMIT));
 
   public static SqlStatementSanitizer create(boolean statementSanitizationEnabled) {
     return new SqlStatementSanitizer(statementSanitizationEnabled);
@@ -40,23 +47,11 @@ public final class SqlStatementSanitizer {
     if (!statementSanitizationEnabled || statement == null) {
       return SqlStatementInfo.create(statement, null, null);
     }
-    return sqlToStatementInfoCache.computeIfAbsent(
-        CacheKey.create(statement, dialect),
-        k -> {
-          supportability.incrementCounter(SQL_STATEMENT_SANITIZER_CACHE_MISS);
-          return AutoSqlSanitizer.sanitize(statement, dialect);
-        });
-  }
-
-  @AutoValue
-  abstract static class CacheKey {
-
-    static CacheKey create(String statement, SqlDialect dialect) {
-      return new AutoValue_SqlStatementSanitizer_CacheKey(statement, dialect);
+    if (statement.length() > SCAN_LIMIT) {
+      // very long statements (e.g. bulk inserts) are rarely repeated, and caching them would retain
+      // a lot of memory
+      return AutoSqlSanitizer.sanitize(statement, dialect, SCAN_LIMIT);
     }
-
-    abstract String getStatement();
-
-    abstract SqlDialect getDialect();
+    return sqlToStatementInfoCache.get(statement, dialect);
   }
 }
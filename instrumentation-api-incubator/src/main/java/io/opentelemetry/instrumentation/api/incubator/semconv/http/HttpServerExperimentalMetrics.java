@@ -19,6 +19,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.instrumentation.api.internal.MergedAttributesOperationListener;
 import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
 import java.util.logging.Logger;
 
@@ -33,7 +34,8 @@ import java.util.logging.Logger;
  * href="https://github.com/open-telemetry/semantic-conventions/blob/main/docs/http/http-metrics.md#metric-httpserverresponsebodysize">the
  * response size</a>.
  */
-public final class HttpServerExperimentalMetrics implements OperationListener {
+public final class HttpServerExperimentalMetrics
+    implements OperationListener, MergedAttributesOperationListener {
 
   private static final ContextKey<Attributes> HTTP_SERVER_EXPERIMENTAL_METRICS_START_ATTRIBUTES =
       ContextKey.named("http-server-experimental-metrics-start-attributes");
@@ -83,6 +85,8 @@ public final class HttpServerExperimentalMetrics implements OperationListener {
 
   @Override
   public Context onStart(Context context, Attributes startAttributes, long startNanos) {
+    // the end attributes may be merged into the start attributes, keep the ones of the increment
+    startAttributes = OperationMetricsUtil.unmergedStartAttributes(startAttributes);
     activeRequests.add(1, startAttributes, context);
 
     return context.with(HTTP_SERVER_EXPERIMENTAL_METRICS_START_ATTRIBUTES, startAttributes);
@@ -102,7 +106,8 @@ public final class HttpServerExperimentalMetrics implements OperationListener {
     // request count (otherwise it will split the timeseries)
     activeRequests.add(-1, startAttributes, context);
 
-    Attributes sizeAttributes = startAttributes.toBuilder().putAll(endAttributes).build();
+    Attributes sizeAttributes =
+        OperationMetricsUtil.mergeAttributes(startAttributes, endAttributes);
 
     Long requestBodySize = getHttpRequestBodySize(endAttributes, startAttributes);
     if (requestBodySize != null) {
@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementInfoCacheTest {
+
+  @Test
+  void cachesSanitizedStatement() {
+    AtomicInteger sanitizeCount = new AtomicInteger();
+    SqlStatementInfoCache cache =
+        new SqlStatementInfoCache(
+            100,
+            (statement, dialect) -> {
+              sanitizeCount.incrementAndGet();
+              return SqlStatementInfo.create(statement, "SELECT", "table");
+            });
+
+    SqlStatementInfo first = cache.get("SELECT * FROM table", SqlDialect.DEFAULT);
+    SqlStatementInfo second = cache.get("SELECT * FROM table", SqlDialect.DEFAULT);
+
+    assertThat(second).isSameAs(first);
+    assertThat(sanitizeCount).hasValue(1);
+  }
+
+  @Test
+  void isBounded() {
+    SqlStatementInfoCache cache =
+        new SqlStatementInfoCache(
+            100, (statement, dialect) -> SqlStatementInfo.create(statement, null, null));
+
+    for (int i = 0; i < 10_000; i++) {
+      cache.get("SELECT * FROM table" + i, SqlDialect.DEFAULT);
+    }
+
+    assertThat(cache.size()).isLessThanOrEqualTo(100);
+  }
+
+  @Test
+  void keepsFrequentStatements() {
+    SqlStatementInfoCache cache =
+        new SqlStatementInfoCache(
+            100, (statement, dialect) -> SqlStatementInfo.create(statement, null, null));
+
+    String frequent = "SELECT * FROM frequent";
+    for (int i = 0; i < 10_000; i++) {
+      cache.get(frequent, SqlDialect.DEFAULT);
+      // a stream of statements that are only ever seen once must not evict the frequent one
+      cache.get("SELECT * FROM table" + i, SqlDialect.DEFAULT);
+    }
+
+    assertThat(cache.contains(frequent, SqlDialect.DEFAULT)).isTrue();
+  }
+
+  @Test
+  void cachesDialectsSeparately() {
+    SqlStatementInfoCache cache =
+        new SqlStatementInfoCache(
+            100, (statement, dialect) -> SqlStatementInfo.create(statement, dialect.name(), null));
+
+    String statement = "SELECT * FROM table WHERE name = \"value\"";
+    assertThat(cache.get(statement, SqlDialect.DEFAULT).getOperation()).isEqualTo("DEFAULT");
+    assertThat(cache.get(statement, SqlDialect.COUCHBASE).getOperation()).isEqualTo("COUCHBASE");
+    assertThat(cache.get(statement, SqlDialect.DEFAULT).getOperation()).isEqualTo("DEFAULT");
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void sharesCapacityBetweenDialects() {
+    SqlStatementInfoCache cache =
+        new SqlStatementInfoCache(
+            100, (statement, dialect) -> SqlStatementInfo.create(statement, null, null));
+
+    for (int i = 0; i < 10_000; i++) {
+      cache.get("SELECT * FROM table" + i, SqlDialect.DEFAULT);
+      cache.get("SELECT * FROM table" + i, SqlDialect.COUCHBASE);
+    }
+
+    assertThat(cache.size()).isLessThanOrEqualTo(100);
+  }
+}
@@ -112,6 +112,32 @@ public class SqlStatementSanitizerTest {
     assertThat(sanitized).doesNotContain("1234");
   }
 
+  @Test
+  void scanLimitStopsOnTokenBoundary() {
+    String statement = "INSERT INTO table VALUES ('secret value', 1), ('other secret', 2)";
+
+    SqlStatementInfo result = AutoSqlSanitizer.sanitize(statement, SqlDialect.DEFAULT, 30);
+
+    assertThat(result)
+        .isEqualTo(SqlStatementInfo.create("INSERT INTO table VALUES (?,", "INSERT", "table"));
+  }
+
+  @Test
+  void veryLongBulkInsertIsTruncated() {
+    StringBuilder s = new StringBuilder("INSERT INTO table VALUES ");
+    while (s.length() < 1024 * 1024) {
+      s.append("('a string literal that is not very long', 1234),");
+    }
+    s.append("('last', 1)");
+
+    SqlStatementInfo result = SqlStatementSanitizer.create(true).sanitize(s.toString());
+
+    assertThat(result.getOperation()).isEqualTo("INSERT");
+    assertThat(result.getMainIdentifier()).isEqualTo("table");
+    assertThat(result.getFullStatement().length()).isLessThanOrEqualTo(AutoSqlSanitizer.LIMIT);
+    assertThat(result.getFullStatement()).doesNotContain("string literal");
+  }
+
   @Test
   void randomBytesDontCauseExceptionsOrTimeouts() {
     Random r = new Random(0);
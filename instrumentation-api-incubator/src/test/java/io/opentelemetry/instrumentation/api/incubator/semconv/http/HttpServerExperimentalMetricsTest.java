@@ -9,12 +9,18 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.asser
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.semconv.ErrorAttributes;
@@ -24,6 +30,7 @@ import io.opentelemetry.semconv.ServerAttributes;
 import io.opentelemetry.semconv.UrlAttributes;
 import io.opentelemetry.semconv.incubating.HttpIncubatingAttributes;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.junit.jupiter.api.Test;
 
 class HttpServerExperimentalMetricsTest {
@@ -244,6 +251,60 @@ class HttpServerExperimentalMetricsTest {
                                                     .hasSpanId(spanContext2.getSpanId())))));
   }
 
+  @Test
+  void activeRequestsUseStartAttributesWhenAttributesMerged() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build();
+
+    InstrumenterBuilder<String, String> builder =
+        Instrumenter.<String, String>builder(openTelemetry, "test", request -> "GET")
+            .addAttributesExtractor(
+                new AttributesExtractor<String, String>() {
+                  @Override
+                  public void onStart(
+                      AttributesBuilder attributes, Context parentContext, String request) {
+                    attributes.put(HttpAttributes.HTTP_REQUEST_METHOD, request);
+                    attributes.put(UrlAttributes.URL_SCHEME, "http");
+                  }
+
+                  @Override
+                  public void onEnd(
+                      AttributesBuilder attributes,
+                      Context context,
+                      String request,
+                      @Nullable String response,
+                      @Nullable Throwable error) {
+                    // an end value for a key that is also part of the active requests attributes
+                    attributes.put(UrlAttributes.URL_SCHEME, "https");
+                    attributes.put(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200);
+                  }
+                })
+            .addOperationMetrics(HttpServerExperimentalMetrics.get());
+    InstrumenterUtil.setMergeOperationAttributes(builder, true);
+    Instrumenter<String, String> instrumenter = builder.buildInstrumenter();
+
+    Context context = instrumenter.start(Context.root(), "GET");
+    instrumenter.end(context, "GET", "200", null);
+
+    assertThat(metricReader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("http.server.active_requests")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(0)
+                                        .hasAttributesSatisfying(
+                                            equalTo(HttpAttributes.HTTP_REQUEST_METHOD, "GET"),
+                                            equalTo(UrlAttributes.URL_SCHEME, "http")))));
+  }
+
   private static long nanos(int millis) {
     return TimeUnit.MILLISECONDS.toNanos(millis);
   }
@@ -7,8 +7,10 @@ package io.opentelemetry.instrumentation.api.instrumenter;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientMetrics;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanNameExtractor;
 import java.net.InetSocketAddress;
 import java.util.Collections;
@@ -42,6 +44,26 @@ public class InstrumenterBenchmark {
               HttpClientAttributesExtractor.create(ConstantHttpAttributesGetter.INSTANCE))
           .buildInstrumenter();
 
+  private static final Instrumenter<Void, Void> INSTRUMENTER_WITH_METRICS =
+      createInstrumenterWithMetrics(false);
+
+  private static final Instrumenter<Void, Void> INSTRUMENTER_WITH_METRICS_MERGED_ATTRIBUTES =
+      createInstrumenterWithMetrics(true);
+
+  private static Instrumenter<Void, Void> createInstrumenterWithMetrics(
+      boolean mergeOperationAttributes) {
+    InstrumenterBuilder<Void, Void> builder =
+        Instrumenter.<Void, Void>builder(
+                OpenTelemetry.noop(),
+                "benchmark",
+                HttpSpanNameExtractor.create(ConstantHttpAttributesGetter.INSTANCE))
+            .addAttributesExtractor(
+                HttpClientAttributesExtractor.create(ConstantHttpAttributesGetter.INSTANCE))
+            .addOperationMetrics(HttpClientMetrics.get());
+    InstrumenterUtil.setMergeOperationAttributes(builder, mergeOperationAttributes);
+    return builder.buildInstrumenter();
+  }
+
   @Benchmark
   public Context start() {
     return INSTRUMENTER.start(Context.root(), null);
@@ -54,6 +76,20 @@ public class InstrumenterBenchmark {
     return context;
   }
 
+  @Benchmark
+  public Context startEnd_withMetrics() {
+    Context context = INSTRUMENTER_WITH_METRICS.start(Context.root(), null);
+    INSTRUMENTER_WITH_METRICS.end(context, null, null, null);
+    return context;
+  }
+
+  @Benchmark
+  public Context startEnd_withMetrics_mergedAttributes() {
+    Context context = INSTRUMENTER_WITH_METRICS_MERGED_ATTRIBUTES.start(Context.root(), null);
+    INSTRUMENTER_WITH_METRICS_MERGED_ATTRIBUTES.end(context, null, null, null);
+    return context;
+  }
+
   enum ConstantHttpAttributesGetter implements HttpClientAttributesGetter<Void, Void> {
     INSTANCE;
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class HttpServerAttributesExtractorBenchmark {
+
+  private static final AttributesExtractor<Void, Void> EXTRACTOR =
+      HttpServerAttributesExtractor.create(ConstantHttpAttributesGetter.INSTANCE);
+
+  private static final AttributesExtractor<Void, Void> EXTRACTOR_WITH_CAPTURED_HEADERS =
+      HttpServerAttributesExtractor.builder(ConstantHttpAttributesGetter.INSTANCE)
+          .setCapturedRequestHeaders(Collections.singletonList("x-request-id"))
+          .setCapturedResponseHeaders(Collections.singletonList("content-type"))
+          .build();
+
+  @Benchmark
+  public Attributes onStartOnEnd() {
+    return extract(EXTRACTOR);
+  }
+
+  @Benchmark
+  public Attributes onStartOnEnd_capturedHeaders() {
+    return extract(EXTRACTOR_WITH_CAPTURED_HEADERS);
+  }
+
+  private static Attributes extract(AttributesExtractor<Void, Void> extractor) {
+    Context context = Context.root();
+    AttributesBuilder startAttributes = Attributes.builder();
+    extractor.onStart(startAttributes, context, null);
+    AttributesBuilder endAttributes = Attributes.builder();
+    extractor.onEnd(endAttributes, context, null, null, null);
+    return startAttributes.putAll(endAttributes.build()).build();
+  }
+
+  enum ConstantHttpAttributesGetter implements HttpServerAttributesGetter<Void, Void> {
+    INSTANCE;
+
+    private static final InetSocketAddress PEER_ADDRESS =
+        InetSocketAddress.createUnresolved("127.0.0.1", 54321);
+
+    @Override
+    public String getHttpRequestMethod(Void unused) {
+      return "GET";
+    }
+
+    @Override
+    public String getUrlScheme(Void unused) {
+      return "https";
+    }
+
+    @Override
+    public String getUrlPath(Void unused) {
+      return "/users/123";
+    }
+
+    @Override
+    public String getUrlQuery(Void unused) {
+      return "details=true";
+    }
+
+    @Override
+    public String getHttpRoute(Void unused) {
+      return "/users/{id}";
+    }
+
+    @Override
+    public List<String> getHttpRequestHeader(Void unused, String name) {
+      switch (name) {
+        case "host":
+          return Collections.singletonList("opentelemetry.io:443");
+        case "user-agent":
+          return Collections.singletonList("OpenTelemetryBot");
+        case "x-request-id":
+          return Collections.singletonList("7f2c3b4d");
+        default:
+          return Collections.emptyList();
+      }
+    }
+
+    @Override
+    public Integer getHttpResponseStatusCode(Void unused, Void unused2, @Nullable Throwable error) {
+      return 200;
+    }
+
+    @Override
+    public List<String> getHttpResponseHeader(Void unused, Void unused2, String name) {
+      if (name.equals("content-type")) {
+        return Collections.singletonList("application/json");
+      }
+      return Collections.emptyList();
+    }
+
+    @Override
+    public String getNetworkProtocolName(Void unused, @Nullable Void unused2) {
+      return "http";
+    }
+
+    @Override
+    public String getNetworkProtocolVersion(Void unused, @Nullable Void unused2) {
+      return "1.1";
+    }
+
+    @Override
+    public InetSocketAddress getNetworkPeerInetSocketAddress(
+        Void request, @Nullable Void response) {
+      return PEER_ADDRESS;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.HttpRouteState;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class HttpServerRouteBenchmark {
+
+  private static final Span SERVER_SPAN =
+      Span.wrap(
+          SpanContext.create(
+              "ff01020304050600ff0a0b0c0d0e0f00",
+              "090a0b0c0d0e0f00",
+              TraceFlags.getSampled(),
+              TraceState.getDefault()));
+
+  private static final HttpServerRouteGetter<String> CONTROLLER_ROUTE_GETTER =
+      (context, mapping) -> "/api" + mapping;
+
+  private static final HttpServerRouteGetter<String> PATTERN_GETTER =
+      (context, pattern) -> pattern;
+
+  // a typical servlet application: the filter sets a generic route, then the controller sets the
+  // precise one and any later filter update is ignored
+  @Benchmark
+  public Context update_filterThenController() {
+    Context context = newServerContext(null, 0);
+    HttpServerRoute.update(context, HttpServerRouteSource.SERVER_FILTER, "/api/*");
+    HttpServerRoute.update(
+        context, HttpServerRouteSource.CONTROLLER, CONTROLLER_ROUTE_GETTER, "/users/{id}");
+    HttpServerRoute.update(context, HttpServerRouteSource.SERVER_FILTER, "/*");
+    return context;
+  }
+
+  @Benchmark
+  public Context update_contextPathAndPattern() {
+    Context context = newServerContext(null, 0);
+    HttpServerRoute.update(
+        context, HttpServerRouteSource.CONTROLLER, "/api", PATTERN_GETTER, "/users/{id}");
+    return context;
+  }
+
+  // the route has already been set by a higher priority source
+  @Benchmark
+  public Context update_skipped() {
+    Context context = newServerContext("/users/{id}", HttpServerRouteSource.CONTROLLER.order);
+    HttpServerRoute.update(
+        context, HttpServerRouteSource.SERVER, CONTROLLER_ROUTE_GETTER, "/users/{id}");
+    return context;
+  }
+
+  private static Context newServerContext(@Nullable String route, int updatedBySourceOrder) {
+    return Context.root()
+        .with(HttpRouteState.create("GET", route, updatedBySourceOrder, SERVER_SPAN));
+  }
+}
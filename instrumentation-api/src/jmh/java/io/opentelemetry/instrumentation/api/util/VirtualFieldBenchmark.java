@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// outside of the javaagent VirtualField is backed by the weak map fallback, which is also what
+// instrumented classes that could not be augmented with a field use
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class VirtualFieldBenchmark {
+
+  private static final VirtualField<Owner, String> FIELD =
+      VirtualField.find(Owner.class, String.class);
+
+  private Owner owner;
+
+  @Setup
+  public void setUp() {
+    owner = new Owner();
+    FIELD.set(owner, "value");
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String threads01_get() {
+    return FIELD.get(owner);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String threads01_setGet() {
+    FIELD.set(owner, "value");
+    return FIELD.get(owner);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String threads04_setGet() {
+    FIELD.set(owner, "value");
+    return FIELD.get(owner);
+  }
+
+  // every operation attaches state to a new object, e.g. a task or a request
+  @Benchmark
+  @Threads(1)
+  public String threads01_setGetNewObject() {
+    Owner newOwner = new Owner();
+    FIELD.set(newOwner, "value");
+    return FIELD.get(newOwner);
+  }
+
+  static final class Owner {}
+}
@@ -6,6 +6,9 @@
 package io.opentelemetry.instrumentation.api.instrumenter;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.SpanKind;
@@ -15,8 +18,11 @@ import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.internal.HttpRouteState;
 import io.opentelemetry.instrumentation.api.internal.InstrumenterAccess;
 import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.instrumentation.api.internal.MergedAttributesOperationListener;
+import io.opentelemetry.instrumentation.api.internal.RequiredAttributesExtractor;
 import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
 import java.time.Instant;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
@@ -44,6 +50,8 @@ public class Instrumenter<REQUEST, RESPONSE> {
 
   private static final ContextKey<OperationListener[]> START_OPERATION_LISTENERS =
       ContextKey.named("instrumenter-start-operation-listeners");
+  private static final ContextKey<UnsafeAttributes> OPERATION_ATTRIBUTES =
+      ContextKey.named("instrumenter-operation-attributes");
 
   /**
    * Returns a new {@link InstrumenterBuilder}.
@@ -66,9 +74,7 @@ public class Instrumenter<REQUEST, RESPONSE> {
     return new InstrumenterBuilder<>(openTelemetry, instrumentationName, spanNameExtractor);
   }
 
-  private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
-
-  private final String instrumentationName;
+  private final SupportabilityMetrics.SuppressedSpans suppressedSpans;
   private final Tracer tracer;
   private final SpanNameExtractor<? super REQUEST> spanNameExtractor;
   private final SpanKindExtractor<? super REQUEST> spanKindExtractor;
@@ -79,12 +85,15 @@ public class Instrumenter<REQUEST, RESPONSE> {
   private final OperationListener[] operationListeners;
   private final ErrorCauseExtractor errorCauseExtractor;
   private final boolean propagateOperationListenersToOnEnd;
+  private final boolean mergeOperationAttributes;
+  @Nullable private final Set<AttributeKey<?>> requiredAttributeKeys;
   private final boolean enabled;
   private final SpanSuppressor spanSuppressor;
 
   @SuppressWarnings({"rawtypes", "unchecked"})
   Instrumenter(InstrumenterBuilder<REQUEST, RESPONSE> builder) {
-    this.instrumentationName = builder.instrumentationName;
+    this.suppressedSpans =
+        SupportabilityMetrics.instance().suppressedSpans(builder.instrumentationName);
     this.tracer = builder.buildTracer();
     this.spanNameExtractor = builder.spanNameExtractor;
     this.spanKindExtractor = builder.spanKindExtractor;
@@ -95,6 +104,9 @@ public class Instrumenter<REQUEST, RESPONSE> {
     this.operationListeners = builder.buildOperationListeners().toArray(new OperationListener[0]);
     this.errorCauseExtractor = builder.errorCauseExtractor;
     this.propagateOperationListenersToOnEnd = builder.propagateOperationListenersToOnEnd;
+    this.mergeOperationAttributes =
+        builder.mergeOperationAttributes && acceptMergedAttributes(operationListeners);
+    this.requiredAttributeKeys = builder.buildRequiredAttributeKeys();
     this.enabled = builder.enabled;
     this.spanSuppressor = builder.buildSpanSuppressor();
   }
@@ -117,7 +129,7 @@ public class Instrumenter<REQUEST, RESPONSE> {
     boolean suppressed = spanSuppressor.shouldSuppress(parentContext, spanKind);
 
     if (suppressed) {
-      supportability.recordSuppressedSpan(spanKind, instrumentationName);
+      suppressedSpans.increment(spanKind);
     }
     return !suppressed;
   }
@@ -181,6 +193,9 @@ public class Instrumenter<REQUEST, RESPONSE> {
     for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
       extractor.onStart(attributes, parentContext, request);
     }
+    if (mergeOperationAttributes) {
+      attributes.setMergedWithEndAttributes();
+    }
 
     Context context = parentContext;
 
@@ -213,6 +228,12 @@ public class Instrumenter<REQUEST, RESPONSE> {
       // instrumenter will call its parent's operation listeners in doEnd
       context = context.with(START_OPERATION_LISTENERS, operationListeners);
     }
+    if (mergeOperationAttributes || context.get(OPERATION_ATTRIBUTES) != null) {
+      // the end attributes are accumulated into the same buffer that was used during start, so
+      // that operation listeners get the merged view without copying; the parent's buffer has to
+      // be hidden, otherwise this instrumenter would write into it in doEnd
+      context = context.with(OPERATION_ATTRIBUTES, mergeOperationAttributes ? attributes : null);
+    }
 
     if (localRoot) {
       context = LocalRootSpan.store(context, span);
@@ -237,16 +258,28 @@ public class Instrumenter<REQUEST, RESPONSE> {
       span.recordException(error);
     }
 
-    UnsafeAttributes attributes = new UnsafeAttributes();
-    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
-      extractor.onEnd(attributes, context, request, response, error);
-    }
-    span.setAllAttributes(attributes);
-
     OperationListener[] operationListeners = context.get(START_OPERATION_LISTENERS);
     if (operationListeners == null) {
       operationListeners = this.operationListeners;
     }
+
+    // when the span is not recording, the end attributes are only read by the operation listeners;
+    // if they are the ones of this instrumenter, only the attributes they declared are needed
+    Set<AttributeKey<?>> requiredKeys =
+        requiredAttributeKeys != null
+                && operationListeners == this.operationListeners
+                && !span.isRecording()
+            ? requiredAttributeKeys
+            : null;
+    // the end attributes are only merged into the start ones for the listeners of the instrumenter
+    // that started merging them in doStart, which all accept it
+    UnsafeAttributes operationAttributes =
+        operationListeners == this.operationListeners && !mergeOperationAttributes
+            ? null
+            : context.get(OPERATION_ATTRIBUTES);
+    Attributes attributes =
+        endAttributes(operationAttributes, context, request, response, error, span, requiredKeys);
+
     if (operationListeners.length != 0) {
       long endNanos = getNanos(endTime);
       for (int i = operationListeners.length - 1; i >= 0; i--) {
@@ -264,6 +297,66 @@ public class Instrumenter<REQUEST, RESPONSE> {
     }
   }
 
+  private Attributes endAttributes(
+      @Nullable UnsafeAttributes operationAttributes,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Span span,
+      @Nullable Set<AttributeKey<?>> requiredKeys) {
+    if (operationAttributes != null) {
+      // end attributes are written into the buffer that already holds the start attributes, and
+      // directly onto the span when it records; the buffer is then passed to the operation
+      // listeners as is
+      if (requiredKeys == null) {
+        operationAttributes.setSpan(span);
+      }
+      try {
+        extractEndAttributes(operationAttributes, context, request, response, error, requiredKeys);
+      } finally {
+        operationAttributes.setSpan(null);
+      }
+      return operationAttributes;
+    }
+
+    UnsafeAttributes attributes = new UnsafeAttributes();
+    extractEndAttributes(attributes, context, request, response, error, requiredKeys);
+    if (requiredKeys == null) {
+      span.setAllAttributes(attributes);
+    }
+    return attributes;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void extractEndAttributes(
+      AttributesBuilder attributes,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      @Nullable Set<AttributeKey<?>> requiredKeys) {
+    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
+      if (requiredKeys != null && extractor instanceof RequiredAttributesExtractor) {
+        ((RequiredAttributesExtractor<? super REQUEST, ? super RESPONSE>) extractor)
+            .onEndRequired(attributes, context, request, response, error, requiredKeys);
+      } else {
+        extractor.onEnd(attributes, context, request, response, error);
+      }
+    }
+  }
+
+  // the listeners that did not opt in may keep the start attributes, which are then expected to be
+  // immutable
+  private static boolean acceptMergedAttributes(OperationListener[] operationListeners) {
+    for (OperationListener operationListener : operationListeners) {
+      if (!(operationListener instanceof MergedAttributesOperationListener)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static long getNanos(@Nullable Instant time) {
     if (time == null) {
       return System.nanoTime();
@@ -297,6 +390,12 @@ public class Instrumenter<REQUEST, RESPONSE> {
             return instrumenter.spanSuppressor.storeInContext(
                 parentContext, spanKind, Span.getInvalid());
           }
+
+          @Override
+          public boolean isMergedWithEndAttributes(Attributes startAttributes) {
+            return startAttributes instanceof UnsafeAttributes
+                && ((UnsafeAttributes) startAttributes).isMergedWithEndAttributes();
+          }
         });
   }
 }
@@ -10,6 +10,7 @@ import static java.util.logging.Level.WARNING;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterBuilder;
 import io.opentelemetry.api.trace.SpanKind;
@@ -27,6 +28,7 @@ import io.opentelemetry.instrumentation.api.internal.SchemaUrlProvider;
 import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.internal.SpanKeyProvider;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -49,6 +51,14 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
           ConfigPropertiesUtil.getString(
               "otel.instrumentation.experimental.span-suppression-strategy"));
 
+  private static final boolean mergeOperationAttributesDefault =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.experimental.merge-operation-attributes", false);
+
+  private static final boolean requiredAttributesOnlyWhenNotRecordingDefault =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.experimental.required-attributes-only-when-not-recording", false);
+
   final OpenTelemetry openTelemetry;
   final String instrumentationName;
   final SpanNameExtractor<? super REQUEST> spanNameExtractor;
@@ -67,6 +77,9 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
       SpanStatusExtractor.getDefault();
   ErrorCauseExtractor errorCauseExtractor = ErrorCauseExtractor.getDefault();
   boolean propagateOperationListenersToOnEnd = false;
+  boolean mergeOperationAttributes = mergeOperationAttributesDefault;
+  private boolean requiredAttributesOnlyWhenNotRecording =
+      requiredAttributesOnlyWhenNotRecordingDefault;
   boolean enabled = true;
 
   InstrumenterBuilder(
@@ -324,6 +337,27 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
     return listeners;
   }
 
+  /**
+   * Returns the attribute keys that the operation listeners need when the span is not recording,
+   * or {@code null} if all the attributes have to be extracted.
+   */
+  @Nullable
+  Set<AttributeKey<?>> buildRequiredAttributeKeys() {
+    // listeners added directly do not declare the attributes they read
+    if (!requiredAttributesOnlyWhenNotRecording || !operationListeners.isEmpty()) {
+      return null;
+    }
+    Set<AttributeKey<?>> requiredKeys = new HashSet<>();
+    for (OperationMetrics factory : operationMetrics) {
+      Set<AttributeKey<?>> keys = factory.getRequiredAttributeKeys();
+      if (keys == null) {
+        return null;
+      }
+      requiredKeys.addAll(keys);
+    }
+    return requiredKeys;
+  }
+
   @Nullable
   private String getSchemaUrl() {
     // url set explicitly overrides url computed using attributes extractors
@@ -375,6 +409,15 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
     propagateOperationListenersToOnEnd = true;
   }
 
+  private void setMergeOperationAttributes(boolean mergeOperationAttributes) {
+    this.mergeOperationAttributes = mergeOperationAttributes;
+  }
+
+  private void setRequiredAttributesOnlyWhenNotRecording(
+      boolean requiredAttributesOnlyWhenNotRecording) {
+    this.requiredAttributesOnlyWhenNotRecording = requiredAttributesOnlyWhenNotRecording;
+  }
+
   private interface InstrumenterConstructor<RQ, RS> {
     Instrumenter<RQ, RS> create(InstrumenterBuilder<RQ, RS> builder);
 
@@ -417,6 +460,19 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
               InstrumenterBuilder<RQ, RS> builder) {
             builder.propagateOperationListenersToOnEnd();
           }
+
+          @Override
+          public <RQ, RS> void setMergeOperationAttributes(
+              InstrumenterBuilder<RQ, RS> builder, boolean mergeOperationAttributes) {
+            builder.setMergeOperationAttributes(mergeOperationAttributes);
+          }
+
+          @Override
+          public <RQ, RS> void setRequiredAttributesOnlyWhenNotRecording(
+              InstrumenterBuilder<RQ, RS> builder, boolean requiredAttributesOnlyWhenNotRecording) {
+            builder.setRequiredAttributesOnlyWhenNotRecording(
+                requiredAttributesOnlyWhenNotRecording);
+          }
         });
   }
 }
@@ -14,6 +14,17 @@ import io.opentelemetry.context.Context;
  * and the {@link #onEnd(Context, Attributes, long)} method will be called as late as possible when
  * finishing the processing of a response. These correspond to the start and end of a span when
  * tracing.
+ *
+ * <p>When the {@link Instrumenter} is configured to merge operation attributes, the end attributes
+ * are written into the start attributes instead of into a separate {@link Attributes} instance.
+ * This changes the contract of this listener: the {@code startAttributes} passed to {@link
+ * #onStart(Context, Attributes, long)} are modified after {@code onStart()} returns, while the
+ * operation ends, and the {@code endAttributes} passed to {@link #onEnd(Context, Attributes, long)}
+ * are then the same instance, holding both the start and the end attributes, with the end ones
+ * taking precedence. A listener that needs the start attributes as they were when the operation
+ * started, e.g. to record the same attributes in {@code onStart()} and {@code onEnd()}, must copy
+ * them in {@code onStart()}. The attributes are not modified anymore once {@code onEnd()} is
+ * called.
  */
 public interface OperationListener {
 
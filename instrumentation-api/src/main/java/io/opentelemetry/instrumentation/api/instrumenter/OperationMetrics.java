@@ -5,7 +5,10 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.metrics.Meter;
+import java.util.Set;
+import javax.annotation.Nullable;
 
 /** A factory for creating a {@link OperationListener} instance that records operation metrics. */
 @FunctionalInterface
@@ -16,4 +19,21 @@ public interface OperationMetrics {
    * Meter}.
    */
   OperationListener create(Meter meter);
+
+  /**
+   * Returns the attribute keys that the {@link OperationListener} returned by {@link
+   * #create(Meter)} reads from the start and end attributes, or {@code null} if the listener may
+   * read any attribute.
+   *
+   * <p>When the span of an operation is not recording, and all the operation listeners of an
+   * {@link Instrumenter} declare the attributes they need, the {@link Instrumenter} may skip
+   * extracting end attributes that none of the listeners need. Note that attributes which are not
+   * declared here will then not be available to metric views either.
+   *
+   * @since 2.9.0
+   */
+  @Nullable
+  default Set<AttributeKey<?>> getRequiredAttributeKeys() {
+    return null;
+  }
 }
@@ -9,9 +9,11 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 
 /**
  * The {@link AttributesBuilder} and {@link Attributes} used by the instrumentation API. We are able
@@ -25,6 +27,23 @@ final class UnsafeAttributes extends HashMap<AttributeKey<?>, Object>
 
   private static final long serialVersionUID = 1L;
 
+  // whether the end attributes of the operation are merged into these start attributes
+  private transient boolean mergedWithEndAttributes;
+  // while the end attributes are merged, the attributes that are put are also set on the span
+  @Nullable private transient Span span;
+
+  void setMergedWithEndAttributes() {
+    mergedWithEndAttributes = true;
+  }
+
+  boolean isMergedWithEndAttributes() {
+    return mergedWithEndAttributes;
+  }
+
+  void setSpan(@Nullable Span span) {
+    this.span = span;
+  }
+
   // Attributes
 
   @SuppressWarnings("unchecked")
@@ -63,6 +82,15 @@ final class UnsafeAttributes extends HashMap<AttributeKey<?>, Object>
   @Override
   @CanIgnoreReturnValue
   public <T> AttributesBuilder put(AttributeKey<T> key, T value) {
+    if (mergedWithEndAttributes) {
+      // null values are ignored, same as when the end attributes are merged with the start ones
+      if (key == null || value == null) {
+        return this;
+      }
+      if (span != null) {
+        span.setAttribute(key, value);
+      }
+    }
     super.put(key, value);
     return this;
   }
@@ -70,10 +98,16 @@ final class UnsafeAttributes extends HashMap<AttributeKey<?>, Object>
   @Override
   @CanIgnoreReturnValue
   public AttributesBuilder putAll(Attributes attributes) {
-    attributes.forEach(this::put);
+    // a method reference would bind to HashMap.put and bypass the merged end attributes handling
+    attributes.forEach(this::putUnchecked);
     return this;
   }
 
+  @SuppressWarnings("unchecked")
+  private void putUnchecked(AttributeKey<?> key, Object value) {
+    put((AttributeKey<Object>) key, value);
+  }
+
   @Override
   public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> action) {
     // https://github.com/open-telemetry/opentelemetry-java/issues/4161
@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Interns the string {@link AttributeKey}s built from names that are only known at runtime, like
+ * the MDC or thread context data keys captured by the log appenders, so that a key is not created
+ * for every attribute of every event.
+ *
+ * <p>The interner returned by {@link #stringKeys()} is shared by all the log appenders. The number
+ * of keys retained by each interner is configured with the {@code
+ * otel.instrumentation.common.experimental.logging-attribute-key-cache-size} property (1000 by
+ * default); once it is reached the least recently used keys are evicted, and are created again
+ * when they are next seen.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AttributeKeyInterner {
+
+  private static final int MAX_SIZE =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.common.experimental.logging-attribute-key-cache-size", 1000);
+
+  private static final AttributeKeyInterner STRING_KEYS = new AttributeKeyInterner("", MAX_SIZE);
+
+  /** Returns the shared interner of the keys that are named after the passed names. */
+  public static AttributeKeyInterner stringKeys() {
+    return STRING_KEYS;
+  }
+
+  /** Returns a new interner of the keys that are named after the passed names and a prefix. */
+  public static AttributeKeyInterner withPrefix(String prefix) {
+    return new AttributeKeyInterner(prefix, MAX_SIZE);
+  }
+
+  private final String prefix;
+  private final Cache<String, AttributeKey<String>> keys;
+
+  // visible for testing
+  AttributeKeyInterner(String prefix, int maxSize) {
+    this.prefix = prefix;
+    this.keys = Cache.bounded(maxSize);
+  }
+
+  public AttributeKey<String> get(String name) {
+    AttributeKey<String> key = keys.get(name);
+    if (key == null) {
+      // not using computeIfAbsent(), the mapping function would capture the prefix
+      key = AttributeKey.stringKey(prefix.isEmpty() ? name : prefix + name);
+      keys.put(name, key);
+    }
+    return key;
+  }
+
+  /**
+   * Returns the keys of all the given names, for the attributes that are looked up on every event.
+   * The returned keys are resolved once and are not subject to eviction.
+   */
+  public List<AttributeKey<String>> getAll(List<String> names) {
+    List<AttributeKey<String>> result = new ArrayList<>(names.size());
+    for (String name : names) {
+      result.add(get(name));
+    }
+    return Collections.unmodifiableList(result);
+  }
+}
@@ -29,4 +29,11 @@ public interface InstrumenterBuilderAccess {
 
   <REQUEST, RESPONSE> void propagateOperationListenersToOnEnd(
       InstrumenterBuilder<REQUEST, RESPONSE> builder);
+
+  <REQUEST, RESPONSE> void setMergeOperationAttributes(
+      InstrumenterBuilder<REQUEST, RESPONSE> builder, boolean mergeOperationAttributes);
+
+  <REQUEST, RESPONSE> void setRequiredAttributesOnlyWhenNotRecording(
+      InstrumenterBuilder<REQUEST, RESPONSE> builder,
+      boolean requiredAttributesOnlyWhenNotRecording);
 }
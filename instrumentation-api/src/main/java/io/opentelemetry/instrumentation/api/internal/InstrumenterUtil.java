@@ -6,11 +6,13 @@
 package io.opentelemetry.instrumentation.api.internal;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.context.propagation.TextMapSetter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import java.time.Instant;
 import javax.annotation.Nullable;
@@ -51,6 +53,16 @@ public final class InstrumenterUtil {
     return instrumenterAccess.suppressSpan(instrumenter, parentContext, request);
   }
 
+  /**
+   * Returns whether the end attributes of the operation will be merged into the passed start
+   * attributes, see {@link #setMergeOperationAttributes(InstrumenterBuilder, boolean)}.
+   */
+  public static boolean isMergedWithEndAttributes(Attributes startAttributes) {
+    // null when the listener is not called by an Instrumenter, e.g. in tests
+    return instrumenterAccess != null
+        && instrumenterAccess.isMergedWithEndAttributes(startAttributes);
+  }
+
   public static <REQUEST, RESPONSE> Instrumenter<REQUEST, RESPONSE> buildUpstreamInstrumenter(
       InstrumenterBuilder<REQUEST, RESPONSE> builder,
       TextMapGetter<REQUEST> getter,
@@ -77,5 +89,36 @@ public final class InstrumenterUtil {
     return builder;
   }
 
+  /**
+   * Makes the built {@link Instrumenter} accumulate the start and end attributes of an operation in
+   * a single buffer, which is passed to the operation listeners both in {@code onStart()} and in
+   * {@code onEnd()}.
+   */
+  @CanIgnoreReturnValue
+  public static <REQUEST, RESPONSE>
+      InstrumenterBuilder<REQUEST, RESPONSE> setMergeOperationAttributes(
+          InstrumenterBuilder<REQUEST, RESPONSE> builder, boolean mergeOperationAttributes) {
+    // instrumenterBuilderAccess is guaranteed to be non-null here
+    instrumenterBuilderAccess.setMergeOperationAttributes(builder, mergeOperationAttributes);
+    return builder;
+  }
+
+  /**
+   * Makes the built {@link Instrumenter} extract only the end attributes that its operation
+   * listeners declared they need when the span is not recording.
+   *
+   * @see OperationMetrics#getRequiredAttributeKeys()
+   */
+  @CanIgnoreReturnValue
+  public static <REQUEST, RESPONSE>
+      InstrumenterBuilder<REQUEST, RESPONSE> setRequiredAttributesOnlyWhenNotRecording(
+          InstrumenterBuilder<REQUEST, RESPONSE> builder,
+          boolean requiredAttributesOnlyWhenNotRecording) {
+    // instrumenterBuilderAccess is guaranteed to be non-null here
+    instrumenterBuilderAccess.setRequiredAttributesOnlyWhenNotRecording(
+        builder, requiredAttributesOnlyWhenNotRecording);
+    return builder;
+  }
+
   private InstrumenterUtil() {}
 }
@@ -0,0 +1,21 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+
+/**
+ * Implemented by the {@link OperationListener}s that accept merged operation attributes: the start
+ * attributes passed to {@code onStart()} can then be the same instance as the end attributes
+ * passed to {@code onEnd()}, the end attributes being added to it when the operation ends. An
+ * instrumenter only merges the operation attributes when all of its listeners implement this
+ * interface. See {@link OperationMetricsUtil#mergeAttributes} and {@link
+ * OperationMetricsUtil#unmergedStartAttributes}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface MergedAttributesOperationListener {}
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.internal;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.incubator.metrics.ExtendedDoubleHistogramBuilder;
 import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
@@ -12,6 +13,10 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -23,17 +28,7 @@ import java.util.logging.Logger;
  */
 public class OperationMetricsUtil {
   private static final Logger logger = Logger.getLogger(OperationMetricsUtil.class.getName());
-  private static final OperationListener NOOP_OPERATION_LISTENER =
-      new OperationListener() {
-
-        @Override
-        public Context onStart(Context context, Attributes startAttributes, long startNanos) {
-          return context;
-        }
-
-        @Override
-        public void onEnd(Context context, Attributes endAttributes, long endNanos) {}
-      };
+  private static final OperationListener NOOP_OPERATION_LISTENER = new NoopOperationListener();
 
   public static OperationMetrics create(
       String description, Function<Meter, OperationListener> factory) {
@@ -53,6 +48,57 @@ public class OperationMetricsUtil {
                 }));
   }
 
+  /**
+   * Returns an {@link OperationMetrics} which declares that its listener only reads the passed
+   * attribute keys.
+   *
+   * @see OperationMetrics#getRequiredAttributeKeys()
+   */
+  public static OperationMetrics create(
+      String description,
+      Function<Meter, OperationListener> factory,
+      Collection<AttributeKey<?>> requiredAttributeKeys) {
+    OperationMetrics delegate = create(description, factory);
+    Set<AttributeKey<?>> keys = Collections.unmodifiableSet(new HashSet<>(requiredAttributeKeys));
+    return new OperationMetrics() {
+      @Override
+      public OperationListener create(Meter meter) {
+        return delegate.create(meter);
+      }
+
+      @Override
+      public Set<AttributeKey<?>> getRequiredAttributeKeys() {
+        return keys;
+      }
+    };
+  }
+
+  /**
+   * Returns the union of the start and end attributes of an operation, with the end attributes
+   * taking precedence. When the instrumenter merges operation attributes the end attributes already
+   * are the union and are returned as is.
+   */
+  public static Attributes mergeAttributes(Attributes startAttributes, Attributes endAttributes) {
+    // the start attributes may be a copy made by unmergedStartAttributes()
+    if (startAttributes == endAttributes
+        || InstrumenterUtil.isMergedWithEndAttributes(endAttributes)) {
+      return endAttributes;
+    }
+    return startAttributes.toBuilder().putAll(endAttributes).build();
+  }
+
+  /**
+   * Returns start attributes that do not change when the operation ends, for the listeners that
+   * record the same attributes in {@code onStart()} and {@code onEnd()}. The start attributes are
+   * copied only when the instrumenter merges the end attributes into them.
+   */
+  public static Attributes unmergedStartAttributes(Attributes startAttributes) {
+    if (InstrumenterUtil.isMergedWithEndAttributes(startAttributes)) {
+      return Attributes.builder().putAll(startAttributes).build();
+    }
+    return startAttributes;
+  }
+
   // visible for testing
   static OperationMetrics create(
       String description,
@@ -69,5 +115,17 @@ public class OperationMetricsUtil {
     };
   }
 
+  private static final class NoopOperationListener
+      implements OperationListener, MergedAttributesOperationListener {
+
+    @Override
+    public Context onStart(Context context, Attributes startAttributes, long startNanos) {
+      return context;
+    }
+
+    @Override
+    public void onEnd(Context context, Attributes endAttributes, long endNanos) {}
+  }
+
   private OperationMetricsUtil() {}
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link AttributesExtractor} that can skip extracting the end attributes that are not needed
+ * when the span is not recording. The {@link Instrumenter} calls {@link #onEndRequired} instead of
+ * {@link AttributesExtractor#onEnd} in that case, passing the attribute keys declared by {@link
+ * OperationMetrics#getRequiredAttributeKeys()}. Start attributes are always extracted in full,
+ * since they are passed to the sampler.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface RequiredAttributesExtractor<REQUEST, RESPONSE> {
+
+  /**
+   * Extracts the end attributes like {@link AttributesExtractor#onEnd}, except that attributes
+   * whose key is not in {@code requiredKeys} may be omitted.
+   */
+  void onEndRequired(
+      AttributesBuilder attributes,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Set<AttributeKey<?>> requiredKeys);
+}
@@ -5,28 +5,58 @@
 
 package io.opentelemetry.instrumentation.api.internal;
 
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.SpanKind;
 import java.security.PrivilegedAction;
+import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.logging.Logger;
 
 /**
- * This class is internal and is hence not for public use. Its APIs are unstable and can change at
- * any time.
+ * Counters of internal events of the instrumentation, e.g. suppressed spans or cache misses.
+ *
+ * <p>Counting is always enabled. The counters are meant to be resolved once, e.g. in a static
+ * field, so that incrementing them is a single {@link LongAdder} update. They are exported as
+ * observable counters after {@link #registerMetrics(OpenTelemetry)} is called, which the javaagent
+ * does when the {@code otel.javaagent.experimental.supportability-metrics.enabled} option is
+ * enabled. They are also logged periodically when the {@code otel.javaagent.debug} option is
+ * enabled.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
  */
 public final class SupportabilityMetrics {
   private static final Logger logger = Logger.getLogger(SupportabilityMetrics.class.getName());
+
+  // otel.scope.name is reserved for the identity of the instrumentation scope of the metric
+  private static final AttributeKey<String> INSTRUMENTATION_NAME =
+      stringKey("instrumentation.name");
+  private static final AttributeKey<String> SPAN_KIND = stringKey("span.kind");
+  private static final AttributeKey<String> COUNTER_NAME = stringKey("counter.name");
+  private static final AttributeKey<String> VIRTUAL_FIELD_TYPE = stringKey("virtual_field.type");
+  private static final AttributeKey<String> VIRTUAL_FIELD_FIELD_TYPE =
+      stringKey("virtual_field.field_type");
+
   private final boolean agentDebugEnabled;
   private final Consumer<String> reporter;
 
-  private final ConcurrentMap<String, KindCounters> suppressionCounters = new ConcurrentHashMap<>();
-  private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, SuppressedSpans> suppressionCounters =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, VirtualFieldFallback> virtualFieldFallbacks =
+      new ConcurrentHashMap<>();
 
   private static final SupportabilityMetrics INSTANCE =
       new SupportabilityMetrics(
@@ -43,30 +73,115 @@ public final class SupportabilityMetrics {
     this.reporter = reporter;
   }
 
-  public void recordSuppressedSpan(SpanKind kind, String instrumentationName) {
-    if (!agentDebugEnabled) {
-      return;
-    }
+  /** Returns the counters of spans suppressed by the instrumentation with the given name. */
+  public SuppressedSpans suppressedSpans(String instrumentationName) {
+    return suppressionCounters.computeIfAbsent(instrumentationName, SuppressedSpans::new);
+  }
 
-    suppressionCounters
-        .computeIfAbsent(instrumentationName, s -> new KindCounters())
-        .increment(kind);
+  /** Returns the counter with the given name, see {@link CounterNames}. */
+  public Counter counter(String counterName) {
+    return counters.computeIfAbsent(counterName, Counter::new);
   }
 
+  /**
+   * Returns the usage statistics of the map that stores the values of the virtual field of the
+   * given type, for the instances into which a real field could not be injected.
+   *
+   * @param size supplies the number of entries in the map
+   */
+  public VirtualFieldFallback virtualFieldFallback(
+      String typeName, String fieldTypeName, LongSupplier size) {
+    return virtualFieldFallbacks.computeIfAbsent(
+        typeName + " -> " + fieldTypeName,
+        unused -> new VirtualFieldFallback(typeName, fieldTypeName, size));
+  }
+
+  /**
+   * Prefer incrementing the counters returned by {@link #suppressedSpans(String)}, which avoids
+   * looking them up on every call.
+   */
+  public void recordSuppressedSpan(SpanKind kind, String instrumentationName) {
+    suppressedSpans(instrumentationName).increment(kind);
+  }
+
+  /**
+   * Prefer incrementing the counter returned by {@link #counter(String)}, which avoids looking it
+   * up on every call.
+   */
   public void incrementCounter(String counterName) {
-    if (!agentDebugEnabled) {
-      return;
-    }
+    counter(counterName).increment();
+  }
 
-    counters.computeIfAbsent(counterName, k -> new AtomicLong()).incrementAndGet();
+  /** Exports the counters as observable counters using the given {@link OpenTelemetry}. */
+  public void registerMetrics(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter("io.opentelemetry.instrumentation.supportability");
+    meter
+        .counterBuilder("otel.instrumentation.suppressed_spans")
+        .setUnit("{span}")
+        .setDescription("Number of spans that were suppressed by the instrumentation.")
+        .buildWithCallback(
+            measurement ->
+                suppressionCounters.forEach(
+                    (instrumentationName, suppressedSpans) -> {
+                      for (SpanKind kind : SpanKind.values()) {
+                        Counter counter = suppressedSpans.counters[kind.ordinal()];
+                        long value = counter.count.sum();
+                        if (value > 0) {
+                          measurement.record(value, counter.attributes);
+                        }
+                      }
+                    }));
+    meter
+        .counterBuilder("otel.instrumentation.supportability.counter")
+        .setUnit("{event}")
+        .setDescription("Number of internal events that occurred in the instrumentation.")
+        .buildWithCallback(
+            measurement ->
+                counters.forEach(
+                    (counterName, counter) -> {
+                      long value = counter.count.sum();
+                      if (value > 0) {
+                        measurement.record(value, counter.attributes);
+                      }
+                    }));
+    meter
+        .counterBuilder("otel.instrumentation.virtual_field.fallback.writes")
+        .setUnit("{write}")
+        .setDescription(
+            "Number of virtual field writes that were stored in a map, because no real field could"
+                + " be injected into the instance.")
+        .buildWithCallback(
+            measurement ->
+                virtualFieldFallbacks.forEach(
+                    (name, fallback) -> {
+                      long value = fallback.writes.count.sum();
+                      if (value > 0) {
+                        measurement.record(value, fallback.writes.attributes);
+                      }
+                    }));
+    meter
+        .gaugeBuilder("otel.instrumentation.virtual_field.fallback.size")
+        .ofLongs()
+        .setUnit("{entry}")
+        .setDescription(
+            "Number of virtual field values stored in a map, because no real field could be"
+                + " injected into the instance.")
+        .buildWithCallback(
+            measurement ->
+                virtualFieldFallbacks.forEach(
+                    (name, fallback) -> {
+                      if (fallback.writes.count.sum() > 0) {
+                        measurement.record(fallback.size.getAsLong(), fallback.writes.attributes);
+                      }
+                    }));
   }
 
   // visible for testing
   void report() {
     suppressionCounters.forEach(
-        (instrumentationName, countsByKind) -> {
+        (instrumentationName, suppressedSpans) -> {
           for (SpanKind kind : SpanKind.values()) {
-            long value = countsByKind.getAndReset(kind);
+            long value = suppressedSpans.counters[kind.ordinal()].getUnreported();
             if (value > 0) {
               reporter.accept(
                   "Suppressed Spans by '" + instrumentationName + "' (" + kind + ") : " + value);
@@ -75,11 +190,24 @@ public final class SupportabilityMetrics {
         });
     counters.forEach(
         (counterName, counter) -> {
-          long value = counter.getAndSet(0);
+          long value = counter.getUnreported();
           if (value > 0) {
             reporter.accept("Counter '" + counterName + "' : " + value);
           }
         });
+    virtualFieldFallbacks.forEach(
+        (name, fallback) -> {
+          long value = fallback.writes.getUnreported();
+          if (value > 0) {
+            reporter.accept(
+                "VirtualField fallback writes '"
+                    + name
+                    + "' : "
+                    + value
+                    + ", entries : "
+                    + fallback.size.getAsLong());
+          }
+        });
   }
 
   // this private method is designed for assignment of the return value
@@ -122,54 +250,97 @@ public final class SupportabilityMetrics {
    * any time.
    */
   public static final class CounterNames {
+    public static final String SQL_STATEMENT_SANITIZER_CACHE_HIT =
+        "SqlStatementSanitizer cache hit";
     public static final String SQL_STATEMENT_SANITIZER_CACHE_MISS =
         "SqlStatementSanitizer cache miss";
+    public static final String SQL_STATEMENT_SANITIZER_CACHE_EVICTION =
+        "SqlStatementSanitizer cache eviction";
+    public static final String TASK_CLASS_EVALUATED = "InstrumentedTaskClasses evaluated";
+    public static final String TASK_CLASS_DECISION_SHARED = "InstrumentedTaskClasses shared";
 
     private CounterNames() {}
   }
 
-  // this class is threadsafe.
-  private static class KindCounters {
-    private final AtomicLong server = new AtomicLong();
-    private final AtomicLong client = new AtomicLong();
-    private final AtomicLong internal = new AtomicLong();
-    private final AtomicLong consumer = new AtomicLong();
-    private final AtomicLong producer = new AtomicLong();
-
-    void increment(SpanKind kind) {
-      switch (kind) {
-        case INTERNAL:
-          internal.incrementAndGet();
-          break;
-        case SERVER:
-          server.incrementAndGet();
-          break;
-        case CLIENT:
-          client.incrementAndGet();
-          break;
-        case PRODUCER:
-          producer.incrementAndGet();
-          break;
-        case CONSUMER:
-          consumer.incrementAndGet();
-          break;
-      }
+  /**
+   * A monotonic counter.
+   *
+   * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+   * at any time.
+   */
+  public static final class Counter {
+    private final LongAdder count = new LongAdder();
+    private final Attributes attributes;
+    // only accessed by report(), which is never called concurrently
+    private long reported;
+
+    private Counter(String counterName) {
+      this(Attributes.of(COUNTER_NAME, counterName));
+    }
+
+    private Counter(Attributes attributes) {
+      this.attributes = attributes;
+    }
+
+    public void increment() {
+      count.increment();
+    }
+
+    private long getUnreported() {
+      long total = count.sum();
+      long value = total - reported;
+      reported = total;
+      return value;
     }
+  }
 
-    long getAndReset(SpanKind kind) {
-      switch (kind) {
-        case INTERNAL:
-          return internal.getAndSet(0);
-        case SERVER:
-          return server.getAndSet(0);
-        case CLIENT:
-          return client.getAndSet(0);
-        case PRODUCER:
-          return producer.getAndSet(0);
-        case CONSUMER:
-          return consumer.getAndSet(0);
+  /**
+   * Counters of the spans suppressed by an instrumentation, by {@link SpanKind}.
+   *
+   * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+   * at any time.
+   */
+  public static final class SuppressedSpans {
+    private final Counter[] counters = new Counter[SpanKind.values().length];
+
+    private SuppressedSpans(String instrumentationName) {
+      for (SpanKind kind : SpanKind.values()) {
+        counters[kind.ordinal()] =
+            new Counter(
+                Attributes.of(
+                    INSTRUMENTATION_NAME,
+                    instrumentationName,
+                    SPAN_KIND,
+                    kind.name().toLowerCase(Locale.ROOT)));
       }
-      return 0;
+    }
+
+    public void increment(SpanKind kind) {
+      counters[kind.ordinal()].increment();
+    }
+  }
+
+  /**
+   * Usage statistics of the map that stores the values of a virtual field, for the instances into
+   * which a real field could not be injected.
+   *
+   * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+   * at any time.
+   */
+  public static final class VirtualFieldFallback {
+    private final Counter writes;
+    private final LongSupplier size;
+
+    private VirtualFieldFallback(String typeName, String fieldTypeName, LongSupplier size) {
+      this.writes =
+          new Counter(
+              Attributes.of(VIRTUAL_FIELD_TYPE, typeName, VIRTUAL_FIELD_FIELD_TYPE, fieldTypeName));
+      this.size = size;
+    }
+
+    /** Records a write that was stored in the map. */
+    public void recordWrite() {
+      writes.increment();
     }
   }
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal.cache;
+
+import io.opentelemetry.instrumentation.api.internal.GuardedBy;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * A weak identity cache meant to hold a large number of entries, e.g. the values of a {@code
+ * VirtualField} for types into which a real field could not be injected.
+ *
+ * <p>Unlike {@link Cache#weak()}, which allocates a map node and a weak key per entry and relies on
+ * a shared cleaner thread, this cache stores the weak keys and the values next to each other in
+ * open addressing tables, so that an entry costs a single weak reference and two array slots. The
+ * table is split into segments that are locked independently by writers, while lookups only lock
+ * when keys of their segment were collected. The entries of collected keys are removed a bounded
+ * batch at a time by the writers and the readers of their segment, and by {@link
+ * #approximateSize()}, so no background thread is needed.
+ *
+ * <p>Keys are referenced weakly and compared using identity comparison, not {@link
+ * Object#equals(Object)}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CompactWeakCache<K, V> implements Cache<K, V> {
+
+  private static final int SEGMENT_COUNT = 16;
+  private static final int INITIAL_SEGMENT_CAPACITY = 16;
+  // entries of collected keys removed by a single operation, so that operations have a bounded cost
+  private static final int MAX_EXPUNGED = 64;
+
+  // marks a removed entry, lookups continue probing past it
+  private static final Object TOMBSTONE = new Object();
+
+  private final Segment<K, V>[] segments;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public CompactWeakCache() {
+    segments = new Segment[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment<>();
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    int hash = hash(key);
+    Segment<K, V> segment = segmentFor(hash);
+    segment.expungeStaleEntries();
+    V value = segment.get(key, hash);
+    if (value != null) {
+      return value;
+    }
+    // same as Cache.weak(), the mapping function may be called concurrently for the same key
+    value = mappingFunction.apply(key);
+    return segment.put(key, hash, value, /* onlyIfAbsent= */ true);
+  }
+
+  @Override
+  @Nullable
+  public V get(K key) {
+    int hash = hash(key);
+    Segment<K, V> segment = segmentFor(hash);
+    segment.expungeStaleEntries();
+    return segment.get(key, hash);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    int hash = hash(key);
+    segmentFor(hash).put(key, hash, value, /* onlyIfAbsent= */ false);
+  }
+
+  @Override
+  public void remove(K key) {
+    int hash = hash(key);
+    segmentFor(hash).remove(key, hash);
+  }
+
+  /**
+   * Returns the number of entries, including the entries of collected keys that were not removed
+   * yet. This only locks the segments that have entries of collected keys to remove, so that it can
+   * be called often, e.g. by a metric callback.
+   */
+  public int approximateSize() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      segment.expungeStaleEntries();
+      size += segment.size.get();
+    }
+    return size;
+  }
+
+  // visible for testing
+  void expungeStaleEntries() {
+    for (Segment<K, V> segment : segments) {
+      segment.expungeAll();
+    }
+  }
+
+  private Segment<K, V> segmentFor(int hash) {
+    // the low bits select the slot in the segment table
+    return segments[(hash >>> 16) & (SEGMENT_COUNT - 1)];
+  }
+
+  private static int hash(Object key) {
+    int h = System.identityHashCode(key);
+    // identity hash codes are not uniformly distributed in all JVMs
+    h *= 0x9e3779b9;
+    return h ^ (h >>> 16);
+  }
+
+  private static final class WeakKey<K> extends WeakReference<K> {
+    private final int hash;
+
+    WeakKey(K key, int hash, ReferenceQueue<? super K> queue) {
+      super(key, queue);
+      this.hash = hash;
+    }
+  }
+
+  private static final class Segment<K, V> {
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    // the key of slot i is at index 2 * i, its value at index 2 * i + 1; a value is always written
+    // before its key so that a lookup that finds a key also sees its value
+    private volatile AtomicReferenceArray<Object> table =
+        new AtomicReferenceArray<>(2 * INITIAL_SEGMENT_CAPACITY);
+
+    // live entries, including the ones of collected keys that were not expunged yet; only updated
+    // while holding the lock, atomic so that it can be read without it
+    private final AtomicInteger size = new AtomicInteger();
+
+    // slots that are not empty, including tombstones
+    @GuardedBy("this")
+    private int usedSlots;
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    V get(Object key, int hash) {
+      retry:
+      while (true) {
+        AtomicReferenceArray<Object> table = this.table;
+        int mask = (table.length() >> 1) - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+          Object slotKey = table.get(2 * i);
+          if (slotKey == null) {
+            return null;
+          }
+          if (slotKey != TOMBSTONE && ((WeakKey<?>) slotKey).get() == key) {
+            Object value = table.get(2 * i + 1);
+            // the entry may have been removed and its slot reused for another key after the key
+            // was read, a weak key is never stored again once its entry is removed
+            if (table.get(2 * i) != slotKey) {
+              continue retry;
+            }
+            return (V) value;
+          }
+        }
+      }
+    }
+
+    // called without holding the lock, which is only taken when keys were collected
+    void expungeStaleEntries() {
+      Reference<? extends K> reference = queue.poll();
+      if (reference == null) {
+        return;
+      }
+      synchronized (this) {
+        expungeEntry(reference);
+        expunge(MAX_EXPUNGED - 1);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized V put(K key, int hash, V value, boolean onlyIfAbsent) {
+      expunge(MAX_EXPUNGED);
+
+      AtomicReferenceArray<Object> table = this.table;
+      int mask = (table.length() >> 1) - 1;
+      int freeSlot = -1;
+      int i = hash & mask;
+      for (; ; i = (i + 1) & mask) {
+        Object slotKey = table.get(2 * i);
+        if (slotKey == null) {
+          break;
+        }
+        if (slotKey == TOMBSTONE) {
+          if (freeSlot < 0) {
+            freeSlot = i;
+          }
+        } else if (((WeakKey<?>) slotKey).get() == key) {
+          Object existing = table.get(2 * i + 1);
+          if (onlyIfAbsent && existing != null) {
+            return (V) existing;
+          }
+          table.set(2 * i + 1, value);
+          return value;
+        }
+      }
+
+      if (freeSlot < 0) {
+        freeSlot = i;
+        usedSlots++;
+      }
+      table.set(2 * freeSlot + 1, value);
+      table.set(2 * freeSlot, new WeakKey<>(key, hash, queue));
+      size.incrementAndGet();
+
+      // keep at least a quarter of the slots empty so that probing stays short
+      if (4 * usedSlots > 3 * (table.length() >> 1)) {
+        rehash(table);
+      }
+      return value;
+    }
+
+    synchronized void remove(Object key, int hash) {
+      expunge(MAX_EXPUNGED);
+
+      AtomicReferenceArray<Object> table = this.table;
+      int mask = (table.length() >> 1) - 1;
+      for (int i = hash & mask; ; i = (i + 1) & mask) {
+        Object slotKey = table.get(2 * i);
+        if (slotKey == null) {
+          return;
+        }
+        if (slotKey != TOMBSTONE && ((WeakKey<?>) slotKey).get() == key) {
+          clearSlot(table, i);
+          return;
+        }
+      }
+    }
+
+    synchronized void expungeAll() {
+      expunge(Integer.MAX_VALUE);
+    }
+
+    @GuardedBy("this")
+    private void expunge(int maxExpunged) {
+      for (int expunged = 0; expunged < maxExpunged; expunged++) {
+        Reference<? extends K> reference = queue.poll();
+        if (reference == null) {
+          return;
+        }
+        expungeEntry(reference);
+      }
+    }
+
+    @GuardedBy("this")
+    private void expungeEntry(Reference<? extends K> reference) {
+      AtomicReferenceArray<Object> table = this.table;
+      int mask = (table.length() >> 1) - 1;
+      int hash = ((WeakKey<?>) reference).hash;
+      for (int i = hash & mask; ; i = (i + 1) & mask) {
+        Object slotKey = table.get(2 * i);
+        if (slotKey == null) {
+          // already dropped when the table was rehashed
+          return;
+        }
+        if (slotKey == reference) {
+          clearSlot(table, i);
+          return;
+        }
+      }
+    }
+
+    @GuardedBy("this")
+    private void clearSlot(AtomicReferenceArray<Object> table, int slot) {
+      table.set(2 * slot + 1, null);
+      table.set(2 * slot, TOMBSTONE);
+      size.decrementAndGet();
+    }
+
+    @GuardedBy("this")
+    private void rehash(AtomicReferenceArray<Object> table) {
+      int capacity = INITIAL_SEGMENT_CAPACITY;
+      // the new table is at most half full, the tombstones and collected keys are not copied
+      while (capacity < 2 * size.get()) {
+        capacity <<= 1;
+      }
+      AtomicReferenceArray<Object> newTable = new AtomicReferenceArray<>(2 * capacity);
+      int mask = capacity - 1;
+      int newSize = 0;
+      for (int slot = 0; slot < table.length() >> 1; slot++) {
+        Object slotKey = table.get(2 * slot);
+        if (slotKey == null || slotKey == TOMBSTONE || ((WeakKey<?>) slotKey).get() == null) {
+          continue;
+        }
+        int i = ((WeakKey<?>) slotKey).hash & mask;
+        while (newTable.get(2 * i) != null) {
+          i = (i + 1) & mask;
+        }
+        newTable.set(2 * i + 1, table.get(2 * slot + 1));
+        newTable.set(2 * i, slotKey);
+        newSize++;
+      }
+      size.set(newSize);
+      usedSlots = newSize;
+      this.table = newTable;
+    }
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.api.semconv.http;
 
 import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
@@ -17,6 +18,7 @@ import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalNet
 import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalServerAttributesExtractor;
 import io.opentelemetry.semconv.HttpAttributes;
 import io.opentelemetry.semconv.UrlAttributes;
+import java.util.Set;
 import java.util.function.ToIntFunction;
 import javax.annotation.Nullable;
 
@@ -94,6 +96,19 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
     internalNetworkExtractor.onEnd(attributes, request, response);
   }
 
+  @Override
+  public void onEndRequired(
+      AttributesBuilder attributes,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Set<AttributeKey<?>> requiredKeys) {
+    super.onEndRequired(attributes, context, request, response, error, requiredKeys);
+
+    internalNetworkExtractor.onEndRequired(attributes, request, response, requiredKeys);
+  }
+
   /**
    * This method is internal and is hence not for public use. Its API is unstable and can change at
    * any time.
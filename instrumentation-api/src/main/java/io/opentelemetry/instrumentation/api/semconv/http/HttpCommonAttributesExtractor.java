@@ -11,9 +11,11 @@ import static io.opentelemetry.instrumentation.api.semconv.http.CapturedHttpHead
 import static io.opentelemetry.instrumentation.api.semconv.http.CapturedHttpHeadersUtil.requestAttributeKey;
 import static io.opentelemetry.instrumentation.api.semconv.http.CapturedHttpHeadersUtil.responseAttributeKey;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.internal.RequiredAttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.network.NetworkAttributesGetter;
 import io.opentelemetry.semconv.ErrorAttributes;
 import io.opentelemetry.semconv.HttpAttributes;
@@ -35,7 +37,8 @@ abstract class HttpCommonAttributesExtractor<
         GETTER extends
             HttpCommonAttributesGetter<REQUEST, RESPONSE>
                 & NetworkAttributesGetter<REQUEST, RESPONSE>>
-    implements AttributesExtractor<REQUEST, RESPONSE> {
+    implements AttributesExtractor<REQUEST, RESPONSE>,
+        RequiredAttributesExtractor<REQUEST, RESPONSE> {
 
   final GETTER getter;
   private final HttpStatusCodeConverter statusCodeConverter;
@@ -81,7 +84,26 @@ abstract class HttpCommonAttributesExtractor<
       REQUEST request,
       @Nullable RESPONSE response,
       @Nullable Throwable error) {
+    doOnEnd(attributes, request, response, error, null);
+  }
+
+  @Override
+  public void onEndRequired(
+      AttributesBuilder attributes,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Set<AttributeKey<?>> requiredKeys) {
+    doOnEnd(attributes, request, response, error, requiredKeys);
+  }
 
+  private void doOnEnd(
+      AttributesBuilder attributes,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      @Nullable Set<AttributeKey<?>> requiredKeys) {
     Integer statusCode = null;
     if (response != null) {
       statusCode = getter.getHttpResponseStatusCode(request, response, error);
@@ -90,6 +112,9 @@ abstract class HttpCommonAttributesExtractor<
       }
 
       for (String name : capturedResponseHeaders) {
+        if (requiredKeys != null && !requiredKeys.contains(responseAttributeKey(name))) {
+          continue;
+        }
         List<String> values = getter.getHttpResponseHeader(request, response, name);
         if (!values.isEmpty()) {
           internalSet(attributes, responseAttributeKey(name), values);
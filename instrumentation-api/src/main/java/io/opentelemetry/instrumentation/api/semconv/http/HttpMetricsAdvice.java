@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.api.semconv.http;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.incubator.metrics.ExtendedDoubleHistogramBuilder;
 import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
 import io.opentelemetry.semconv.ErrorAttributes;
@@ -15,6 +16,7 @@ import io.opentelemetry.semconv.HttpAttributes;
 import io.opentelemetry.semconv.NetworkAttributes;
 import io.opentelemetry.semconv.ServerAttributes;
 import io.opentelemetry.semconv.UrlAttributes;
+import java.util.ArrayList;
 import java.util.List;
 
 final class HttpMetricsAdvice {
@@ -23,20 +25,34 @@ final class HttpMetricsAdvice {
       unmodifiableList(
           asList(0.005, 0.01, 0.025, 0.05, 0.075, 0.1, 0.25, 0.5, 0.75, 1.0, 2.5, 5.0, 7.5, 10.0));
 
+  static final List<AttributeKey<?>> CLIENT_DURATION_ATTRIBUTES =
+      unmodifiableList(
+          asList(
+              HttpAttributes.HTTP_REQUEST_METHOD,
+              HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
+              ErrorAttributes.ERROR_TYPE,
+              NetworkAttributes.NETWORK_PROTOCOL_NAME,
+              NetworkAttributes.NETWORK_PROTOCOL_VERSION,
+              ServerAttributes.SERVER_ADDRESS,
+              ServerAttributes.SERVER_PORT));
+
+  static final List<AttributeKey<?>> SERVER_DURATION_ATTRIBUTES =
+      unmodifiableList(
+          asList(
+              HttpAttributes.HTTP_ROUTE,
+              HttpAttributes.HTTP_REQUEST_METHOD,
+              HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
+              ErrorAttributes.ERROR_TYPE,
+              NetworkAttributes.NETWORK_PROTOCOL_NAME,
+              NetworkAttributes.NETWORK_PROTOCOL_VERSION,
+              UrlAttributes.URL_SCHEME));
+
   static void applyClientDurationAdvice(DoubleHistogramBuilder builder) {
     if (!(builder instanceof ExtendedDoubleHistogramBuilder)) {
       return;
     }
     ((ExtendedDoubleHistogramBuilder) builder)
-        .setAttributesAdvice(
-            asList(
-                HttpAttributes.HTTP_REQUEST_METHOD,
-                HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
-                ErrorAttributes.ERROR_TYPE,
-                NetworkAttributes.NETWORK_PROTOCOL_NAME,
-                NetworkAttributes.NETWORK_PROTOCOL_VERSION,
-                ServerAttributes.SERVER_ADDRESS,
-                ServerAttributes.SERVER_PORT));
+        .setAttributesAdvice(withOverflow(CLIENT_DURATION_ATTRIBUTES));
   }
 
   static void applyServerDurationAdvice(DoubleHistogramBuilder builder) {
@@ -44,15 +60,15 @@ final class HttpMetricsAdvice {
       return;
     }
     ((ExtendedDoubleHistogramBuilder) builder)
-        .setAttributesAdvice(
-            asList(
-                HttpAttributes.HTTP_ROUTE,
-                HttpAttributes.HTTP_REQUEST_METHOD,
-                HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
-                ErrorAttributes.ERROR_TYPE,
-                NetworkAttributes.NETWORK_PROTOCOL_NAME,
-                NetworkAttributes.NETWORK_PROTOCOL_VERSION,
-                UrlAttributes.URL_SCHEME));
+        .setAttributesAdvice(withOverflow(SERVER_DURATION_ATTRIBUTES));
+  }
+
+  // the overflow series of the attributes cache must not be merged into the series without any of
+  // the advised attributes
+  private static List<AttributeKey<?>> withOverflow(List<AttributeKey<?>> attributeKeys) {
+    List<AttributeKey<?>> advice = new ArrayList<>(attributeKeys);
+    advice.add(HttpMetricsAttributesCache.OVERFLOW_KEY);
+    return advice;
   }
 
   private HttpMetricsAdvice() {}
@@ -0,0 +1,168 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+/**
+ * Interns the attributes recorded by the HTTP duration metrics. The HTTP metrics attributes (route,
+ * method, status code, etc.) have low cardinality, so instead of merging the start and end
+ * attributes into a new {@link Attributes} instance for every request, the values of the advised
+ * attribute keys are looked up in a bounded cache of canonical {@link Attributes} instances. The
+ * lookup key is reused per thread, so a cache hit doesn't allocate.
+ *
+ * <p>Only the advised attribute keys are retained in the cached attributes. Once the cache reaches
+ * its maximum size, the requests with any new combination of values are recorded in a single
+ * overflow series marked with {@code otel.metric.overflow}, like the series of the SDK cardinality
+ * limit, so that high cardinality values (e.g. unbounded routes) cannot exhaust memory.
+ */
+final class HttpMetricsAttributesCache {
+
+  static final AttributeKey<Boolean> OVERFLOW_KEY = AttributeKey.booleanKey("otel.metric.overflow");
+
+  private static final Attributes OVERFLOW_ATTRIBUTES = Attributes.of(OVERFLOW_KEY, true);
+
+  // 0 disables the cache
+  private static final int DEFAULT_MAX_SIZE =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.http.experimental.metrics-attributes-cache-size", 0);
+
+  @Nullable
+  static HttpMetricsAttributesCache createIfEnabled(List<AttributeKey<?>> attributeKeys) {
+    return DEFAULT_MAX_SIZE > 0
+        ? new HttpMetricsAttributesCache(attributeKeys, DEFAULT_MAX_SIZE)
+        : null;
+  }
+
+  private final AttributeKey<?>[] attributeKeys;
+  private final int maxSize;
+  private final ConcurrentMap<Key, Attributes> cache = new ConcurrentHashMap<>();
+  // the map size is not atomic with the insertions, the slots are reserved on this counter instead
+  private final AtomicInteger size = new AtomicInteger();
+  private final ThreadLocal<Key> lookupKeys;
+
+  HttpMetricsAttributesCache(List<AttributeKey<?>> attributeKeys, int maxSize) {
+    this.attributeKeys = attributeKeys.toArray(new AttributeKey<?>[0]);
+    this.maxSize = maxSize;
+    int keyCount = this.attributeKeys.length;
+    this.lookupKeys = ThreadLocal.withInitial(() -> new Key(new Object[keyCount]));
+  }
+
+  /**
+   * Returns the attributes to record, containing the advised keys of the union of the start and end
+   * attributes, with the end attributes taking precedence.
+   */
+  Attributes get(Attributes startAttributes, Attributes endAttributes) {
+    Key lookupKey = lookupKeys.get();
+    Object[] values = lookupKey.values;
+    for (int i = 0; i < attributeKeys.length; i++) {
+      AttributeKey<?> key = attributeKeys[i];
+      Object value = endAttributes.get(key);
+      if (value == null && startAttributes != endAttributes) {
+        value = startAttributes.get(key);
+      }
+      values[i] = value;
+    }
+    lookupKey.updateHashCode();
+
+    Attributes attributes = cache.get(lookupKey);
+    if (attributes != null) {
+      return attributes;
+    }
+    // the lookup key is reused by the next request of this thread, the cache retains a copy
+    return add(new Key(values.clone()));
+  }
+
+  private Attributes add(Key key) {
+    if (size.get() >= maxSize) {
+      return OVERFLOW_ATTRIBUTES;
+    }
+    if (size.incrementAndGet() > maxSize) {
+      size.decrementAndGet();
+      return OVERFLOW_ATTRIBUTES;
+    }
+    Attributes attributes = build(key.values);
+    Attributes previous = cache.putIfAbsent(key, attributes);
+    if (previous != null) {
+      // another thread added the same values first, release the reserved slot
+      size.decrementAndGet();
+      return previous;
+    }
+    return attributes;
+  }
+
+  // visible for testing
+  int size() {
+    return cache.size();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Attributes build(Object[] values) {
+    AttributesBuilder builder = Attributes.builder();
+    for (int i = 0; i < attributeKeys.length; i++) {
+      if (values[i] != null) {
+        builder.put((AttributeKey) attributeKeys[i], values[i]);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the attributes to record for the given start and end attributes, using the passed cache
+   * when it is not {@code null}.
+   */
+  static Attributes getAttributes(
+      @Nullable HttpMetricsAttributesCache cache,
+      Attributes startAttributes,
+      Attributes endAttributes) {
+    if (cache == null) {
+      return OperationMetricsUtil.mergeAttributes(startAttributes, endAttributes);
+    }
+    return cache.get(startAttributes, endAttributes);
+  }
+
+  private static final class Key {
+    private final Object[] values;
+    private int hashCode;
+
+    private Key(Object[] values) {
+      this.values = values;
+      updateHashCode();
+    }
+
+    // only called on the per thread lookup keys, the keys of the cache are never modified
+    private void updateHashCode() {
+      hashCode = Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return hashCode == other.hashCode && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.api.semconv.http;
 
 import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
@@ -19,6 +20,7 @@ import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalSer
 import io.opentelemetry.instrumentation.api.semconv.url.internal.InternalUrlAttributesExtractor;
 import io.opentelemetry.semconv.HttpAttributes;
 import io.opentelemetry.semconv.UserAgentAttributes;
+import java.util.Set;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 
@@ -100,6 +102,22 @@ public final class HttpServerAttributesExtractor<REQUEST, RESPONSE>
     internalSet(attributes, HttpAttributes.HTTP_ROUTE, httpRouteGetter.apply(context));
   }
 
+  @Override
+  public void onEndRequired(
+      AttributesBuilder attributes,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Set<AttributeKey<?>> requiredKeys) {
+
+    super.onEndRequired(attributes, context, request, response, error, requiredKeys);
+
+    internalNetworkExtractor.onEndRequired(attributes, request, response, requiredKeys);
+
+    internalSet(attributes, HttpAttributes.HTTP_ROUTE, httpRouteGetter.apply(context));
+  }
+
   /**
    * This method is internal and is hence not for public use. Its API is unstable and can change at
    * any time.
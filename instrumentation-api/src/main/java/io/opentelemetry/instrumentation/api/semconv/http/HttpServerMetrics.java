@@ -17,9 +17,11 @@ import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.instrumentation.api.internal.MergedAttributesOperationListener;
 import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link OperationListener} which keeps track of <a
@@ -28,7 +30,8 @@ import java.util.logging.Logger;
  *
  * @since 2.0.0
  */
-public final class HttpServerMetrics implements OperationListener {
+public final class HttpServerMetrics
+    implements OperationListener, MergedAttributesOperationListener {
 
   private static final double NANOS_PER_S = TimeUnit.SECONDS.toNanos(1);
 
@@ -44,10 +47,12 @@ public final class HttpServerMetrics implements OperationListener {
    * @see InstrumenterBuilder#addOperationMetrics(OperationMetrics)
    */
   public static OperationMetrics get() {
-    return OperationMetricsUtil.create("http server", HttpServerMetrics::new);
+    return OperationMetricsUtil.create(
+        "http server", HttpServerMetrics::new, HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES);
   }
 
   private final DoubleHistogram duration;
+  @Nullable private final HttpMetricsAttributesCache attributesCache;
 
   private HttpServerMetrics(Meter meter) {
     DoubleHistogramBuilder stableDurationBuilder =
@@ -58,6 +63,8 @@ public final class HttpServerMetrics implements OperationListener {
             .setExplicitBucketBoundariesAdvice(HttpMetricsAdvice.DURATION_SECONDS_BUCKETS);
     HttpMetricsAdvice.applyServerDurationAdvice(stableDurationBuilder);
     duration = stableDurationBuilder.build();
+    attributesCache =
+        HttpMetricsAttributesCache.createIfEnabled(HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES);
   }
 
   @Override
@@ -78,7 +85,9 @@ public final class HttpServerMetrics implements OperationListener {
       return;
     }
 
-    Attributes attributes = state.startAttributes().toBuilder().putAll(endAttributes).build();
+    Attributes attributes =
+        HttpMetricsAttributesCache.getAttributes(
+            attributesCache, state.startAttributes(), endAttributes);
 
     duration.record((endNanos - state.startTimeNanos()) / NANOS_PER_S, attributes, context);
   }
@@ -62,6 +62,42 @@ public final class HttpServerRoute {
     update(context, source, ConstantAdapter.INSTANCE, httpRoute);
   }
 
+  /**
+   * Updates the {@code http.route} attribute in the received {@code context}, using the route made
+   * of the {@code contextPath} followed by the pattern returned from the {@link
+   * HttpServerRouteGetter}.
+   *
+   * <p>If there is a server span in the context, and the context has been customized with a {@link
+   * HttpServerRoute}, then this method will update the route if and only if the last {@link
+   * HttpServerRouteSource} to update the route using this method has strictly lower priority than
+   * the provided {@link HttpServerRouteSource}, and the pattern returned from the {@link
+   * HttpServerRouteGetter} is non-null. The {@link HttpServerRouteGetter} is not called otherwise.
+   *
+   * <p>The routes are interned: the {@code contextPath} and the pattern are only concatenated the
+   * first time they are seen, and subsequent requests reuse the same route string.
+   *
+   * @since 2.9.0
+   */
+  public static <T> void update(
+      Context context,
+      HttpServerRouteSource source,
+      @Nullable String contextPath,
+      HttpServerRouteGetter<T> patternGetter,
+      T arg) {
+    HttpRouteState httpRouteState = getStateToUpdate(context, source);
+    if (httpRouteState == null) {
+      return;
+    }
+    String pattern = patternGetter.get(context, arg);
+    if (pattern != null) {
+      updateRoute(
+          context,
+          source,
+          httpRouteState,
+          HttpServerRouteInterner.forSource(source).intern(contextPath, pattern));
+    }
+  }
+
   /**
    * Updates the {@code http.route} attribute in the received {@code context}.
    *
@@ -96,34 +132,60 @@ public final class HttpServerRoute {
       HttpServerRouteBiGetter<T, U> httpRouteGetter,
       T arg1,
       U arg2) {
+    HttpRouteState httpRouteState = getStateToUpdate(context, source);
+    if (httpRouteState != null) {
+      updateRoute(context, source, httpRouteState, httpRouteGetter.get(context, arg1, arg2));
+    }
+  }
+
+  // returns the route state when the source may update the route, so that the route is only
+  // computed then
+  @Nullable
+  private static HttpRouteState getStateToUpdate(Context context, HttpServerRouteSource source) {
     HttpRouteState httpRouteState = HttpRouteState.fromContextOrNull(context);
     if (httpRouteState == null) {
-      return;
+      return null;
     }
-    Span serverSpan = httpRouteState.getSpan();
     // even if the server span is not sampled, we have to continue - we need to compute the
     // http.route properly so that it can be captured by the server metrics
+    if (httpRouteState.getSpan() == null) {
+      return null;
+    }
+
+    if (source.order > httpRouteState.getUpdatedBySourceOrder()
+        || onlyIfBetterRoute(source, httpRouteState)) {
+      return httpRouteState;
+    }
+    return null;
+  }
+
+  private static void updateRoute(
+      Context context,
+      HttpServerRouteSource source,
+      HttpRouteState httpRouteState,
+      @Nullable String route) {
+    if (route == null
+        || route.isEmpty()
+        || (onlyIfBetterRoute(source, httpRouteState) && !isBetterRoute(httpRouteState, route))) {
+      return;
+    }
+    Span serverSpan = httpRouteState.getSpan();
     if (serverSpan == null) {
       return;
     }
 
-    // special case for servlet filters, even when we have a route from previous filter see whether
-    // the new route is better and if so use it instead
-    boolean onlyIfBetterRoute =
-        !source.useFirst && source.order == httpRouteState.getUpdatedBySourceOrder();
-    if (source.order > httpRouteState.getUpdatedBySourceOrder() || onlyIfBetterRoute) {
-      String route = httpRouteGetter.get(context, arg1, arg2);
-      if (route != null
-          && !route.isEmpty()
-          && (!onlyIfBetterRoute || isBetterRoute(httpRouteState, route))) {
-
-        // update just the span name - the attribute will be picked up by the
-        // HttpServerAttributesExtractor at the end of request processing
-        updateSpanName(serverSpan, httpRouteState, route);
-
-        httpRouteState.update(context, source.order, route);
-      }
-    }
+    // update just the span name - the attribute will be picked up by the
+    // HttpServerAttributesExtractor at the end of request processing
+    updateSpanName(serverSpan, httpRouteState, route);
+
+    httpRouteState.update(context, source.order, route);
+  }
+
+  // special case for servlet filters, even when we have a route from previous filter see whether
+  // the new route is better and if so use it instead
+  private static boolean onlyIfBetterRoute(
+      HttpServerRouteSource source, HttpRouteState httpRouteState) {
+    return !source.useFirst && source.order == httpRouteState.getUpdatedBySourceOrder();
   }
 
   // This is used when setting route from a servlet filter to pick the most descriptive (longest)
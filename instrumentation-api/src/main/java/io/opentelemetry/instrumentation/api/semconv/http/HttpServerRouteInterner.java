@@ -0,0 +1,64 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import javax.annotation.Nullable;
+
+/**
+ * Computes the route made of a context path and a route pattern, and interns it. The number of
+ * distinct routes of an application is low, so repeated requests get the same {@link String}
+ * instance instead of concatenating the context path and the pattern on every request. There is
+ * one interner per {@link HttpServerRouteSource}, and each one is bounded so that applications that
+ * report high cardinality patterns cannot exhaust memory.
+ */
+final class HttpServerRouteInterner {
+
+  private static final int MAX_CONTEXT_PATHS = 64;
+  private static final int MAX_ROUTES_PER_CONTEXT_PATH = 1000;
+
+  private static final HttpServerRouteInterner[] INTERNERS =
+      new HttpServerRouteInterner[HttpServerRouteSource.values().length];
+
+  static {
+    for (int i = 0; i < INTERNERS.length; i++) {
+      INTERNERS[i] = new HttpServerRouteInterner();
+    }
+  }
+
+  static HttpServerRouteInterner forSource(HttpServerRouteSource source) {
+    return INTERNERS[source.ordinal()];
+  }
+
+  private final Cache<String, Cache<String, String>> routesByContextPath =
+      Cache.bounded(MAX_CONTEXT_PATHS);
+
+  private HttpServerRouteInterner() {}
+
+  String intern(@Nullable String contextPath, String pattern) {
+    if (contextPath == null || contextPath.isEmpty()) {
+      // nothing to concatenate
+      return pattern;
+    }
+    Cache<String, String> routes =
+        routesByContextPath.computeIfAbsent(
+            contextPath, unused -> Cache.bounded(MAX_ROUTES_PER_CONTEXT_PATH));
+    String route = routes.get(pattern);
+    if (route == null) {
+      route = concat(contextPath, pattern);
+      routes.put(pattern, route);
+    }
+    return route;
+  }
+
+  // same as ServletContextPath.prepend()
+  private static String concat(String contextPath, String pattern) {
+    if (pattern.isEmpty()) {
+      return contextPath;
+    }
+    return pattern.startsWith("/") ? contextPath + pattern : contextPath + "/" + pattern;
+  }
+}
@@ -7,10 +7,12 @@ package io.opentelemetry.instrumentation.api.semconv.network.internal;
 
 import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.instrumentation.api.semconv.network.NetworkAttributesGetter;
 import io.opentelemetry.semconv.NetworkAttributes;
 import java.util.Locale;
+import java.util.Set;
 import javax.annotation.Nullable;
 
 /**
@@ -32,33 +34,76 @@ public final class InternalNetworkAttributesExtractor<REQUEST, RESPONSE> {
     this.captureLocalSocketAttributes = captureLocalSocketAttributes;
   }
 
-  public void onEnd(AttributesBuilder attributes, REQUEST request, @Nullable RESPONSE response) {
-    String protocolName = lowercase(getter.getNetworkProtocolName(request, response));
-    String protocolVersion = lowercase(getter.getNetworkProtocolVersion(request, response));
+  /**
+   * Same as {@link #onEnd(AttributesBuilder, Object, Object)}, but only extracts the protocol,
+   * local socket and peer socket attributes when one of their keys is in {@code requiredKeys}.
+   */
+  public void onEndRequired(
+      AttributesBuilder attributes,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      Set<AttributeKey<?>> requiredKeys) {
+    if (captureProtocolAttributes
+        && (requiredKeys.contains(NetworkAttributes.NETWORK_TRANSPORT)
+            || requiredKeys.contains(NetworkAttributes.NETWORK_TYPE)
+            || requiredKeys.contains(NetworkAttributes.NETWORK_PROTOCOL_NAME)
+            || requiredKeys.contains(NetworkAttributes.NETWORK_PROTOCOL_VERSION))) {
+      extractProtocolAttributes(attributes, request, response);
+    }
+    if (captureLocalSocketAttributes
+        && (requiredKeys.contains(NetworkAttributes.NETWORK_LOCAL_ADDRESS)
+            || requiredKeys.contains(NetworkAttributes.NETWORK_LOCAL_PORT))) {
+      extractLocalSocketAttributes(attributes, request, response);
+    }
+    if (requiredKeys.contains(NetworkAttributes.NETWORK_PEER_ADDRESS)
+        || requiredKeys.contains(NetworkAttributes.NETWORK_PEER_PORT)) {
+      extractPeerSocketAttributes(attributes, request, response);
+    }
+  }
 
+  public void onEnd(AttributesBuilder attributes, REQUEST request, @Nullable RESPONSE response) {
     if (captureProtocolAttributes) {
-      String transport = lowercase(getter.getNetworkTransport(request, response));
-      internalSet(attributes, NetworkAttributes.NETWORK_TRANSPORT, transport);
-      internalSet(
-          attributes,
-          NetworkAttributes.NETWORK_TYPE,
-          lowercase(getter.getNetworkType(request, response)));
-      internalSet(attributes, NetworkAttributes.NETWORK_PROTOCOL_NAME, protocolName);
-      internalSet(attributes, NetworkAttributes.NETWORK_PROTOCOL_VERSION, protocolVersion);
+      extractProtocolAttributes(attributes, request, response);
     }
-
     if (captureLocalSocketAttributes) {
-      String localAddress = getter.getNetworkLocalAddress(request, response);
-      if (localAddress != null) {
-        internalSet(attributes, NetworkAttributes.NETWORK_LOCAL_ADDRESS, localAddress);
+      extractLocalSocketAttributes(attributes, request, response);
+    }
+    extractPeerSocketAttributes(attributes, request, response);
+  }
+
+  private void extractProtocolAttributes(
+      AttributesBuilder attributes, REQUEST request, @Nullable RESPONSE response) {
+    String transport = lowercase(getter.getNetworkTransport(request, response));
+    internalSet(attributes, NetworkAttributes.NETWORK_TRANSPORT, transport);
+    internalSet(
+        attributes,
+        NetworkAttributes.NETWORK_TYPE,
+        lowercase(getter.getNetworkType(request, response)));
+    internalSet(
+        attributes,
+        NetworkAttributes.NETWORK_PROTOCOL_NAME,
+        lowercase(getter.getNetworkProtocolName(request, response)));
+    internalSet(
+        attributes,
+        NetworkAttributes.NETWORK_PROTOCOL_VERSION,
+        lowercase(getter.getNetworkProtocolVersion(request, response)));
+  }
+
+  private void extractLocalSocketAttributes(
+      AttributesBuilder attributes, REQUEST request, @Nullable RESPONSE response) {
+    String localAddress = getter.getNetworkLocalAddress(request, response);
+    if (localAddress != null) {
+      internalSet(attributes, NetworkAttributes.NETWORK_LOCAL_ADDRESS, localAddress);
 
-        Integer localPort = getter.getNetworkLocalPort(request, response);
-        if (localPort != null && localPort > 0) {
-          internalSet(attributes, NetworkAttributes.NETWORK_LOCAL_PORT, (long) localPort);
-        }
+      Integer localPort = getter.getNetworkLocalPort(request, response);
+      if (localPort != null && localPort > 0) {
+        internalSet(attributes, NetworkAttributes.NETWORK_LOCAL_PORT, (long) localPort);
       }
     }
+  }
 
+  private void extractPeerSocketAttributes(
+      AttributesBuilder attributes, REQUEST request, @Nullable RESPONSE response) {
     String peerAddress = getter.getNetworkPeerAddress(request, response);
     if (peerAddress != null) {
       internalSet(attributes, NetworkAttributes.NETWORK_PEER_ADDRESS, peerAddress);
@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.api.instrumenter;
 
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.entry;
@@ -14,6 +15,7 @@ import static org.mockito.Mockito.when;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
@@ -25,6 +27,9 @@ import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.instrumentation.api.internal.MergedAttributesOperationListener;
+import io.opentelemetry.instrumentation.api.internal.RequiredAttributesExtractor;
 import io.opentelemetry.instrumentation.api.internal.SchemaUrlProvider;
 import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.internal.SpanKeyProvider;
@@ -32,9 +37,11 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -114,6 +121,48 @@ class InstrumenterTest {
     }
   }
 
+  static class MergedAttributesListener
+      implements OperationListener, MergedAttributesOperationListener {
+    private final AtomicReference<Attributes> startAttributes;
+    private final AtomicReference<Attributes> endAttributes;
+
+    MergedAttributesListener(
+        AtomicReference<Attributes> startAttributes, AtomicReference<Attributes> endAttributes) {
+      this.startAttributes = startAttributes;
+      this.endAttributes = endAttributes;
+    }
+
+    @Override
+    public Context onStart(Context context, Attributes attributes, long startNanos) {
+      startAttributes.set(attributes);
+      return context;
+    }
+
+    @Override
+    public void onEnd(Context context, Attributes attributes, long endNanos) {
+      endAttributes.set(attributes);
+    }
+  }
+
+  static class RequiredAttributesExtractor1 extends AttributesExtractor1
+      implements RequiredAttributesExtractor<Map<String, String>, Map<String, String>> {
+
+    @Override
+    public void onEndRequired(
+        AttributesBuilder attributes,
+        Context context,
+        Map<String, String> request,
+        @Nullable Map<String, String> response,
+        @Nullable Throwable error,
+        Set<AttributeKey<?>> requiredKeys) {
+      for (String key : Arrays.asList("resp1", "resp2")) {
+        if (requiredKeys.contains(AttributeKey.stringKey(key))) {
+          attributes.put(key, response.get(key));
+        }
+      }
+    }
+  }
+
   static class AttributesExtractorWithSchemaUrl
       implements AttributesExtractor<Map<String, String>, Map<String, String>>, SchemaUrlProvider {
 
@@ -503,6 +552,272 @@ class InstrumenterTest {
     assertThat(Span.fromContext(endContext.get()).getSpanContext().isValid()).isTrue();
   }
 
+  @Test
+  void operationListeners_mergedAttributes() {
+    AtomicReference<Attributes> startAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> endAttributes = new AtomicReference<>();
+
+    OperationListener operationListener =
+        new MergedAttributesListener(startAttributes, endAttributes);
+
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> builder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new AttributesExtractor1())
+            .addAttributesExtractor(new AttributesExtractor2())
+            .addOperationListener(operationListener);
+    InstrumenterUtil.setMergeOperationAttributes(builder, true);
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        builder.buildServerInstrumenter(new MapGetter());
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(endAttributes.get()).isSameAs(startAttributes.get());
+    assertThat(endAttributes.get())
+        .containsOnly(
+            attributeEntry("req1", "req1_value"),
+            attributeEntry("req2", "req2_2_value"),
+            attributeEntry("req3", "req3_value"),
+            attributeEntry("resp1", "resp1_value"),
+            attributeEntry("resp2", "resp2_2_value"),
+            attributeEntry("resp3", "resp3_value"));
+
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            trace ->
+                trace.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("span")
+                            .hasAttributesSatisfyingExactly(
+                                equalTo(AttributeKey.stringKey("req1"), "req1_value"),
+                                equalTo(AttributeKey.stringKey("req2"), "req2_2_value"),
+                                equalTo(AttributeKey.stringKey("req3"), "req3_value"),
+                                equalTo(AttributeKey.stringKey("resp1"), "resp1_value"),
+                                equalTo(AttributeKey.stringKey("resp2"), "resp2_2_value"),
+                                equalTo(AttributeKey.stringKey("resp3"), "resp3_value"))));
+  }
+
+  @Test
+  void mergedAttributes_notAcceptedByListener() {
+    AtomicReference<Attributes> mergedStartAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> mergedEndAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> startAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> endAttributes = new AtomicReference<>();
+
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> builder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new AttributesExtractor1())
+            .addOperationListener(
+                new MergedAttributesListener(mergedStartAttributes, mergedEndAttributes))
+            .addOperationListener(
+                new OperationListener() {
+                  @Override
+                  public Context onStart(Context context, Attributes attributes, long startNanos) {
+                    startAttributes.set(attributes);
+                    return context;
+                  }
+
+                  @Override
+                  public void onEnd(Context context, Attributes attributes, long endNanos) {
+                    endAttributes.set(attributes);
+                  }
+                });
+    InstrumenterUtil.setMergeOperationAttributes(builder, true);
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        builder.buildServerInstrumenter(new MapGetter());
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    // a listener that did not opt in keeps the start attributes unchanged
+    assertThat(startAttributes.get())
+        .containsOnly(
+            attributeEntry("req1", "req1_value"), attributeEntry("req2", "req2_value"));
+    assertThat(endAttributes.get())
+        .containsOnly(
+            attributeEntry("resp1", "resp1_value"), attributeEntry("resp2", "resp2_value"));
+    assertThat(mergedEndAttributes.get()).isNotSameAs(mergedStartAttributes.get());
+  }
+
+  @Test
+  void mergedAttributes_putAllOnEnd() {
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> builder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new AttributesExtractor1())
+            .addAttributesExtractor(
+                new AttributesExtractor<Map<String, String>, Map<String, String>>() {
+                  @Override
+                  public void onStart(
+                      AttributesBuilder attributes,
+                      Context parentContext,
+                      Map<String, String> request) {}
+
+                  @Override
+                  public void onEnd(
+                      AttributesBuilder attributes,
+                      Context context,
+                      Map<String, String> request,
+                      Map<String, String> response,
+                      @Nullable Throwable error) {
+                    attributes.putAll(
+                        Attributes.of(
+                            AttributeKey.stringKey("resp3"),
+                            "resp3_value",
+                            AttributeKey.longKey("resp4"),
+                            4L));
+                  }
+                });
+    InstrumenterUtil.setMergeOperationAttributes(builder, true);
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        builder.buildServerInstrumenter(new MapGetter());
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            trace ->
+                trace.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("span")
+                            .hasAttributesSatisfyingExactly(
+                                equalTo(AttributeKey.stringKey("req1"), "req1_value"),
+                                equalTo(AttributeKey.stringKey("req2"), "req2_value"),
+                                equalTo(AttributeKey.stringKey("resp1"), "resp1_value"),
+                                equalTo(AttributeKey.stringKey("resp2"), "resp2_value"),
+                                equalTo(AttributeKey.stringKey("resp3"), "resp3_value"),
+                                equalTo(AttributeKey.longKey("resp4"), 4L))));
+  }
+
+  @Test
+  void mergedAttributes_notSharedWithNestedOperation() {
+    AtomicReference<Attributes> parentAttributes = new AtomicReference<>();
+
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> parentBuilder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "parent")
+            .addAttributesExtractor(new AttributesExtractor1())
+            .addOperationListener(
+                new MergedAttributesListener(parentAttributes, new AtomicReference<>()));
+    InstrumenterUtil.setMergeOperationAttributes(parentBuilder, true);
+    Instrumenter<Map<String, String>, Map<String, String>> parentInstrumenter =
+        parentBuilder.buildServerInstrumenter(new MapGetter());
+    Instrumenter<Map<String, String>, Map<String, String>> childInstrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "child")
+            .addAttributesExtractor(new AttributesExtractor2())
+            .buildInstrumenter();
+
+    Context parentContext = parentInstrumenter.start(Context.root(), REQUEST);
+    Context childContext = childInstrumenter.start(parentContext, REQUEST);
+    childInstrumenter.end(childContext, REQUEST, RESPONSE, null);
+
+    assertThat(parentAttributes.get())
+        .containsOnly(
+            attributeEntry("req1", "req1_value"),
+            attributeEntry("req2", "req2_value"));
+
+    parentInstrumenter.end(parentContext, REQUEST, RESPONSE, null);
+  }
+
+  @Test
+  void requiredAttributesOnly_notRecordingSpan() {
+    AtomicReference<Attributes> endAttributes = new AtomicReference<>();
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        createRequiredAttributesOnlyInstrumenter(endAttributes);
+
+    Context parentContext =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        "ff01020304050600ff0a0b0c0d0e0f00",
+                        "090a0b0c0d0e0f00",
+                        TraceFlags.getDefault(),
+                        TraceState.getDefault())));
+    Context context = instrumenter.start(parentContext, REQUEST);
+    assertThat(Span.fromContext(context).isRecording()).isFalse();
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    // resp2 is not required and is skipped by the extractor that supports it, extractors that do
+    // not support it extract everything
+    assertThat(endAttributes.get())
+        .containsOnly(
+            attributeEntry("resp1", "resp1_value"),
+            attributeEntry("resp2", "resp2_2_value"),
+            attributeEntry("resp3", "resp3_value"));
+  }
+
+  @Test
+  void requiredAttributesOnly_recordingSpan() {
+    AtomicReference<Attributes> endAttributes = new AtomicReference<>();
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        createRequiredAttributesOnlyInstrumenter(endAttributes);
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    assertThat(Span.fromContext(context).isRecording()).isTrue();
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(endAttributes.get())
+        .containsOnly(
+            attributeEntry("resp1", "resp1_value"),
+            attributeEntry("resp2", "resp2_2_value"),
+            attributeEntry("resp3", "resp3_value"));
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            trace ->
+                trace.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("span")
+                            .hasAttributesSatisfying(
+                                attributes ->
+                                    assertThat(attributes)
+                                        .containsEntry("resp1", "resp1_value")
+                                        .containsEntry("resp2", "resp2_2_value")
+                                        .containsEntry("resp3", "resp3_value"))));
+  }
+
+  private static Instrumenter<Map<String, String>, Map<String, String>>
+      createRequiredAttributesOnlyInstrumenter(AtomicReference<Attributes> endAttributes) {
+    OperationMetrics operationMetrics =
+        new OperationMetrics() {
+          @Override
+          public OperationListener create(Meter meter) {
+            return new OperationListener() {
+              @Override
+              public Context onStart(Context context, Attributes attributes, long startNanos) {
+                return context;
+              }
+
+              @Override
+              public void onEnd(Context context, Attributes attributes, long endNanos) {
+                endAttributes.set(attributes);
+              }
+            };
+          }
+
+          @Override
+          public Set<AttributeKey<?>> getRequiredAttributeKeys() {
+            return Collections.singleton(AttributeKey.stringKey("resp1"));
+          }
+        };
+
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> builder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new RequiredAttributesExtractor1())
+            .addAttributesExtractor(new AttributesExtractor2())
+            .addOperationMetrics(operationMetrics);
+    InstrumenterUtil.setRequiredAttributesOnlyWhenNotRecording(builder, true);
+    return builder.buildInstrumenter();
+  }
+
   @Test
   void shouldNotAddInvalidLink() {
     // given
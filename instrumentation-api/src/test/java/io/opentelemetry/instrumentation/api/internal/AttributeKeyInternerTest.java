@@ -0,0 +1,45 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AttributeKeyInternerTest {
+
+  @Test
+  void internsKeys() {
+    AttributeKeyInterner interner = new AttributeKeyInterner("", 10);
+
+    AttributeKey<String> key = interner.get("key");
+    assertThat(key).isEqualTo(AttributeKey.stringKey("key"));
+    assertThat(interner.get("key")).isSameAs(key);
+  }
+
+  @Test
+  void prependsPrefix() {
+    AttributeKeyInterner interner = new AttributeKeyInterner("prefix.", 10);
+
+    AttributeKey<String> key = interner.get("key");
+    assertThat(key).isEqualTo(AttributeKey.stringKey("prefix.key"));
+    assertThat(interner.get("key")).isSameAs(key);
+  }
+
+  @Test
+  void resolvesAllKeys() {
+    AttributeKeyInterner interner = new AttributeKeyInterner("", 10);
+    AttributeKey<String> key1 = interner.get("key1");
+
+    List<AttributeKey<String>> keys = interner.getAll(Arrays.asList("key1", "key2"));
+    assertThat(keys)
+        .containsExactly(AttributeKey.stringKey("key1"), AttributeKey.stringKey("key2"));
+    assertThat(keys.get(0)).isSameAs(key1);
+  }
+}
@@ -5,30 +5,128 @@
 
 package io.opentelemetry.instrumentation.api.internal;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
 
 import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class SupportabilityMetricsTest {
   @Test
-  void disabled() {
-    List<String> reports = new ArrayList<>();
-    SupportabilityMetrics metrics = new SupportabilityMetrics(false, reports::add);
+  void exportsMetrics() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    // counting does not depend on the debug option
+    SupportabilityMetrics metrics = new SupportabilityMetrics(false, unused -> {});
+    metrics.registerMetrics(OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build());
 
-    metrics.recordSuppressedSpan(SpanKind.CLIENT, "favoriteInstrumentation");
+    SupportabilityMetrics.SuppressedSpans suppressedSpans =
+        metrics.suppressedSpans("favoriteInstrumentation");
+    suppressedSpans.increment(SpanKind.CLIENT);
+    suppressedSpans.increment(SpanKind.CLIENT);
     metrics.recordSuppressedSpan(SpanKind.SERVER, "favoriteInstrumentation");
-    metrics.recordSuppressedSpan(SpanKind.CLIENT, "favoriteInstrumentation");
-    metrics.recordSuppressedSpan(SpanKind.INTERNAL, "otherInstrumentation");
-    metrics.incrementCounter("some counter");
-    metrics.incrementCounter("another counter");
+    metrics.counter("some counter").increment();
     metrics.incrementCounter("some counter");
 
-    metrics.report();
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName("otel.instrumentation.suppressed_spans")
+                    .hasUnit("{span}")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasValue(2)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(
+                                                    stringKey("instrumentation.name"),
+                                                    "favoriteInstrumentation"),
+                                                equalTo(stringKey("span.kind"), "client")),
+                                    point ->
+                                        point
+                                            .hasValue(1)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(
+                                                    stringKey("instrumentation.name"),
+                                                    "favoriteInstrumentation"),
+                                                equalTo(stringKey("span.kind"), "server")))),
+            metric ->
+                assertThat(metric)
+                    .hasName("otel.instrumentation.supportability.counter")
+                    .hasUnit("{event}")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasValue(2)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(
+                                                    stringKey("counter.name"), "some counter")))));
+  }
+
+  @Test
+  void exportsVirtualFieldFallbackMetrics() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    SupportabilityMetrics metrics = new SupportabilityMetrics(false, unused -> {});
+    metrics.registerMetrics(OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build());
+
+    SupportabilityMetrics.VirtualFieldFallback fallback =
+        metrics.virtualFieldFallback("java.lang.Runnable", "java.lang.String", () -> 42);
+    fallback.recordWrite();
+    fallback.recordWrite();
+    // not written to, not exported
+    metrics.virtualFieldFallback("java.lang.Thread", "java.lang.String", () -> 0);
 
-    assertThat(reports).isEmpty();
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName("otel.instrumentation.virtual_field.fallback.writes")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasValue(2)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(
+                                                    stringKey("virtual_field.type"),
+                                                    "java.lang.Runnable"),
+                                                equalTo(
+                                                    stringKey("virtual_field.field_type"),
+                                                    "java.lang.String")))),
+            metric ->
+                assertThat(metric)
+                    .hasName("otel.instrumentation.virtual_field.fallback.size")
+                    .hasLongGaugeSatisfying(
+                        gauge ->
+                            gauge.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(42)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(
+                                                stringKey("virtual_field.type"),
+                                                "java.lang.Runnable"),
+                                            equalTo(
+                                                stringKey("virtual_field.field_type"),
+                                                "java.lang.String")))));
   }
 
   @Test
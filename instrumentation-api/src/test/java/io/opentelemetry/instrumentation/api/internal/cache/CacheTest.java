@@ -75,4 +75,89 @@ class CacheTest {
       await().untilAsserted(() -> assertThat(weakLockFreeCache.size()).isEqualTo(0));
     }
   }
+
+  @Nested
+  @SuppressWarnings("ClassCanBeStatic")
+  class CompactWeakKeys {
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    @Test
+    void unbounded() {
+      CompactWeakCache<String, String> cache = new CompactWeakCache<>();
+
+      assertThat(cache.computeIfAbsent("bear", unused -> "roar")).isEqualTo("roar");
+      cache.remove("bear");
+      assertThat(cache.get("bear")).isNull();
+      assertThat(cache.approximateSize()).isEqualTo(0);
+
+      String cat = new String("cat");
+      String dog = new String("dog");
+      assertThat(cache.computeIfAbsent(cat, unused -> "meow")).isEqualTo("meow");
+      assertThat(cache.computeIfAbsent(cat, unused -> "bark")).isEqualTo("meow");
+      assertThat(cache.approximateSize()).isEqualTo(1);
+
+      cache.put(dog, "bark");
+      assertThat(cache.get(dog)).isEqualTo("bark");
+      assertThat(cache.get(cat)).isEqualTo("meow");
+      assertThat(cache.get(new String("dog"))).isNull();
+      assertThat(cache.approximateSize()).isEqualTo(2);
+
+      cat = null;
+      System.gc();
+      // Wait for GC to be reflected.
+      await()
+          .untilAsserted(
+              () -> {
+                cache.expungeStaleEntries();
+                assertThat(cache.approximateSize()).isEqualTo(1);
+              });
+      assertThat(cache.get(dog)).isEqualTo("bark");
+    }
+
+    @Test
+    void removesCollectedKeysWithoutWrites() {
+      CompactWeakCache<Object, Object> cache = new CompactWeakCache<>();
+      Object live = new Object();
+      cache.put(live, "live");
+      for (int i = 0; i < 1_000; i++) {
+        cache.put(new Object(), new Object());
+      }
+      assertThat(cache.approximateSize()).isGreaterThan(1);
+
+      // no segment is written again after the keys are collected
+      System.gc();
+      await()
+          .untilAsserted(
+              () -> {
+                assertThat(cache.get(live)).isEqualTo("live");
+                assertThat(cache.approximateSize()).isEqualTo(1);
+              });
+    }
+
+    @Test
+    void growsAndReusesRemovedSlots() {
+      CompactWeakCache<Object, Integer> cache = new CompactWeakCache<>();
+      Object[] keys = new Object[10_000];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = new Object();
+        cache.put(keys[i], i);
+      }
+      assertThat(cache.approximateSize()).isEqualTo(keys.length);
+
+      for (int i = 0; i < keys.length; i += 2) {
+        cache.remove(keys[i]);
+      }
+      for (int i = 0; i < keys.length; i++) {
+        assertThat(cache.get(keys[i])).isEqualTo(i % 2 == 0 ? null : i);
+      }
+      assertThat(cache.approximateSize()).isEqualTo(keys.length / 2);
+
+      for (int i = 0; i < keys.length; i += 2) {
+        cache.put(keys[i], -i);
+      }
+      for (int i = 0; i < keys.length; i++) {
+        assertThat(cache.get(keys[i])).isEqualTo(i % 2 == 0 ? -i : i);
+      }
+      assertThat(cache.approximateSize()).isEqualTo(keys.length);
+    }
+  }
 }
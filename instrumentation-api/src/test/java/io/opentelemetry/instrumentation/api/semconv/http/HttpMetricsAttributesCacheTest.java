@@ -0,0 +1,120 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.semconv.HttpAttributes;
+import io.opentelemetry.semconv.UrlAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class HttpMetricsAttributesCacheTest {
+
+  @Test
+  void returnsCanonicalInstance() {
+    HttpMetricsAttributesCache cache =
+        new HttpMetricsAttributesCache(HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES, 10);
+
+    Attributes first = cache.get(startAttributes(), endAttributes("/users/{id}"));
+    Attributes second = cache.get(startAttributes(), endAttributes("/users/{id}"));
+
+    assertThat(second).isSameAs(first);
+    assertThat(first)
+        .hasSize(4)
+        .containsEntry(HttpAttributes.HTTP_REQUEST_METHOD, "GET")
+        .containsEntry(UrlAttributes.URL_SCHEME, "https")
+        .containsEntry(HttpAttributes.HTTP_ROUTE, "/users/{id}")
+        .containsEntry(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void endAttributesTakePrecedence() {
+    HttpMetricsAttributesCache cache =
+        new HttpMetricsAttributesCache(HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES, 10);
+
+    Attributes start =
+        startAttributes().toBuilder().put(HttpAttributes.HTTP_ROUTE, "/users/*").build();
+    Attributes attributes = cache.get(start, endAttributes("/users/{id}"));
+
+    assertThat(attributes).containsEntry(HttpAttributes.HTTP_ROUTE, "/users/{id}");
+  }
+
+  @Test
+  void dropsNonAdvisedAttributes() {
+    HttpMetricsAttributesCache cache =
+        new HttpMetricsAttributesCache(HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES, 10);
+
+    Attributes start =
+        startAttributes().toBuilder().put(AttributeKey.stringKey("url.path"), "/users/1").build();
+    Attributes attributes = cache.get(start, endAttributes("/users/{id}"));
+
+    assertThat(attributes).doesNotContainKey(AttributeKey.stringKey("url.path"));
+  }
+
+  @Test
+  void recordsOverflowAboveMaxSize() {
+    HttpMetricsAttributesCache cache =
+        new HttpMetricsAttributesCache(HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES, 2);
+
+    for (int i = 0; i < 100; i++) {
+      cache.get(startAttributes(), endAttributes("/route" + i));
+    }
+    assertThat(cache.size()).isEqualTo(2);
+
+    Attributes first = cache.get(startAttributes(), endAttributes("/overflow"));
+    Attributes second = cache.get(startAttributes(), endAttributes("/other"));
+    assertThat(second).isSameAs(first);
+    assertThat(first).hasSize(1).containsEntry(HttpMetricsAttributesCache.OVERFLOW_KEY, true);
+    assertThat(cache.get(startAttributes(), endAttributes("/route0")))
+        .containsEntry(HttpAttributes.HTTP_ROUTE, "/route0");
+  }
+
+  @Test
+  void concurrentMissesDoNotExceedMaxSize() throws Exception {
+    HttpMetricsAttributesCache cache =
+        new HttpMetricsAttributesCache(HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES, 10);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 1_000; i++) {
+                    cache.get(startAttributes(), endAttributes("/route" + i));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(cache.size()).isEqualTo(10);
+  }
+
+  private static Attributes startAttributes() {
+    return Attributes.of(
+        HttpAttributes.HTTP_REQUEST_METHOD, "GET", UrlAttributes.URL_SCHEME, "https");
+  }
+
+  private static Attributes endAttributes(String route) {
+    return Attributes.of(
+        HttpAttributes.HTTP_ROUTE, route, HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L);
+  }
+}
@@ -99,6 +99,53 @@ class HttpServerRouteTest {
         .satisfiesExactly(span -> assertThat(span).hasName("GET /get/:id"));
   }
 
+  @Test
+  void shouldSetRoute_withContextPath() {
+    when(getter.getHttpRequestMethod("test")).thenReturn("GET");
+
+    Context context = instrumenter.start(Context.root(), "test");
+    assertNull(HttpServerRoute.get(context));
+
+    HttpServerRoute.update(
+        context, HttpServerRouteSource.CONTROLLER, "/ctx", (c, pattern) -> pattern, "get/{id}");
+
+    instrumenter.end(context, "test", null, null);
+
+    assertEquals("/ctx/get/{id}", HttpServerRoute.get(context));
+    assertThat(testing.getSpans())
+        .satisfiesExactly(span -> assertThat(span).hasName("GET /ctx/get/{id}"));
+  }
+
+  @Test
+  void shouldNotGetPattern_lowerOrderSource() {
+    when(getter.getHttpRequestMethod("test")).thenReturn("GET");
+
+    Context context = instrumenter.start(Context.root(), "test");
+    HttpServerRoute.update(context, HttpServerRouteSource.CONTROLLER, "/route1");
+
+    HttpServerRouteGetter<String> patternGetter =
+        (c, pattern) -> {
+          throw new AssertionError("pattern must not be computed");
+        };
+    HttpServerRoute.update(context, HttpServerRouteSource.SERVER, "/ctx", patternGetter, "/route2");
+
+    instrumenter.end(context, "test", null, null);
+
+    assertEquals("/route1", HttpServerRoute.get(context));
+  }
+
+  @Test
+  void internsRoutes() {
+    HttpServerRouteInterner interner =
+        HttpServerRouteInterner.forSource(HttpServerRouteSource.CONTROLLER);
+
+    String route = interner.intern("/ctx", "/get/{id}");
+    assertEquals("/ctx/get/{id}", route);
+    assertThat(interner.intern("/ctx", "/get/{id}")).isSameAs(route);
+    assertEquals("/get/{id}", interner.intern(null, "/get/{id}"));
+    assertEquals("/ctx", interner.intern("/ctx", ""));
+  }
+
   @Test
   void shouldNotUpdateRoute_sameSource() {
     when(getter.getHttpRequestMethod("test")).thenReturn("GET");
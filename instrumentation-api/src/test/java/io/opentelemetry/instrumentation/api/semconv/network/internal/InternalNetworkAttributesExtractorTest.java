@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.network.internal;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.semconv.network.NetworkAttributesGetter;
+import io.opentelemetry.semconv.NetworkAttributes;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+class InternalNetworkAttributesExtractorTest {
+
+  static class TestNetworkAttributesGetter implements NetworkAttributesGetter<String, Void> {
+
+    @Override
+    public String getNetworkTransport(String request, @Nullable Void response) {
+      return "tcp";
+    }
+
+    @Override
+    public String getNetworkType(String request, @Nullable Void response) {
+      return "ipv4";
+    }
+
+    @Override
+    public String getNetworkProtocolName(String request, @Nullable Void response) {
+      return "http";
+    }
+
+    @Override
+    public String getNetworkProtocolVersion(String request, @Nullable Void response) {
+      return "1.1";
+    }
+
+    @Override
+    public String getNetworkLocalAddress(String request, @Nullable Void response) {
+      return "1.2.3.4";
+    }
+
+    @Override
+    public Integer getNetworkLocalPort(String request, @Nullable Void response) {
+      return 8080;
+    }
+
+    @Override
+    public String getNetworkPeerAddress(String request, @Nullable Void response) {
+      return "4.3.2.1";
+    }
+
+    @Override
+    public Integer getNetworkPeerPort(String request, @Nullable Void response) {
+      return 9090;
+    }
+  }
+
+  private final InternalNetworkAttributesExtractor<String, Void> extractor =
+      new InternalNetworkAttributesExtractor<>(new TestNetworkAttributesGetter(), true, true);
+
+  @Test
+  void extractsOnlyRequiredGroups() {
+    Set<AttributeKey<?>> requiredKeys = new HashSet<>();
+    requiredKeys.add(NetworkAttributes.NETWORK_PROTOCOL_VERSION);
+
+    AttributesBuilder attributes = Attributes.builder();
+    extractor.onEndRequired(attributes, "request", null, requiredKeys);
+
+    assertThat(attributes.build())
+        .containsOnly(
+            entry(NetworkAttributes.NETWORK_TRANSPORT, "tcp"),
+            entry(NetworkAttributes.NETWORK_TYPE, "ipv4"),
+            entry(NetworkAttributes.NETWORK_PROTOCOL_NAME, "http"),
+            entry(NetworkAttributes.NETWORK_PROTOCOL_VERSION, "1.1"));
+  }
+
+  @Test
+  void extractsPeerAttributesWhenRequired() {
+    Set<AttributeKey<?>> requiredKeys = new HashSet<>();
+    requiredKeys.add(NetworkAttributes.NETWORK_PEER_PORT);
+
+    AttributesBuilder attributes = Attributes.builder();
+    extractor.onEndRequired(attributes, "request", null, requiredKeys);
+
+    assertThat(attributes.build())
+        .containsOnly(
+            entry(NetworkAttributes.NETWORK_PEER_ADDRESS, "4.3.2.1"),
+            entry(NetworkAttributes.NETWORK_PEER_PORT, 9090L));
+  }
+
+  @Test
+  void extractsNothingWhenNotRequired() {
+    AttributesBuilder attributes = Attributes.builder();
+    extractor.onEndRequired(attributes, "request", null, Collections.emptySet());
+
+    assertThat(attributes.build()).isEmpty();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.executors;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
+import io.opentelemetry.javaagent.bootstrap.InstrumentedTaskClasses;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the context handoff performed by the executor instrumentation: attaching the submitting
+ * thread's context to a task, then making it current when the task runs.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class PropagatedContextBenchmark {
+
+  static {
+    // normally configured by the agent on startup
+    InstrumentedTaskClasses.setIgnoredTaskClassesPredicate(className -> false);
+  }
+
+  private static final ContextKey<String> KEY = ContextKey.named("benchmark");
+  private static final Context CONTEXT = Context.root().with(KEY, "value");
+
+  private static final VirtualField<Runnable, PropagatedContext> VIRTUAL_FIELD =
+      VirtualField.find(Runnable.class, PropagatedContext.class);
+
+  private final Runnable reusedTask = new Task();
+
+  @Benchmark
+  public void submitAndRun_newTask(Blackhole blackhole) {
+    handoff(new Task(), blackhole);
+  }
+
+  // e.g. a task that is scheduled repeatedly, the PropagatedContext is reused
+  @Benchmark
+  public void submitAndRun_reusedTask(Blackhole blackhole) {
+    handoff(reusedTask, blackhole);
+  }
+
+  private static void handoff(Runnable task, Blackhole blackhole) {
+    if (ExecutorAdviceHelper.shouldPropagateContext(CONTEXT, task)) {
+      blackhole.consume(ExecutorAdviceHelper.attachContextToTask(CONTEXT, VIRTUAL_FIELD, task));
+    }
+    Scope scope = TaskAdviceHelper.makePropagatedContextCurrent(VIRTUAL_FIELD, task);
+    try {
+      task.run();
+      blackhole.consume(Context.current());
+    } finally {
+      if (scope != null) {
+        scope.close();
+      }
+    }
+  }
+
+  static final class Task implements Runnable {
+    @Override
+    public void run() {}
+  }
+}
@@ -19,6 +19,11 @@ public final class ExecutorAdviceHelper {
 
   private static final ThreadLocal<Boolean> propagationDisabled = new ThreadLocal<>();
 
+  // the executor returned by Executors.newVirtualThreadPerTaskExecutor(), only on java 21+
+  @Nullable
+  private static final Class<?> threadPerTaskExecutorClass =
+      findClass("java.util.concurrent.ThreadPerTaskExecutor");
+
   /**
    * Temporarily disable context propagation for current thread. Call {@link #enablePropagation()}
    * to re-enable the propagation.
@@ -59,6 +64,18 @@ public final class ExecutorAdviceHelper {
     return InstrumentedTaskClasses.canInstrumentTaskClass(task.getClass());
   }
 
+  /**
+   * Returns whether {@code executor} starts a new thread for each task, so that each task is run
+   * exactly once and is never handed back to the caller. The context of the tasks of such an
+   * executor can be captured in a wrapper ({@link ContextPropagatingRunnable}, {@link
+   * ContextPropagatingCallable}) instead of a {@link PropagatedContext}, which avoids allocating
+   * the {@link PropagatedContext} and storing it in a {@link VirtualField} for each of the,
+   * typically many, virtual threads.
+   */
+  public static boolean isThreadPerTaskExecutor(Object executor) {
+    return executor.getClass() == threadPerTaskExecutorClass;
+  }
+
   /**
    * Associate {@code context} with passed {@code task} using {@code virtualField}. Once the context
    * is attached, {@link TaskAdviceHelper} can be used to make that context current during {@code
@@ -122,5 +139,14 @@ public final class ExecutorAdviceHelper {
     }
   }
 
+  @Nullable
+  private static Class<?> findClass(String className) {
+    try {
+      return Class.forName(className, false, null);
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
   private ExecutorAdviceHelper() {}
 }
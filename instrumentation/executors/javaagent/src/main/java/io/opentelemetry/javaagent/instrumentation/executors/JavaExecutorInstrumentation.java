@@ -18,6 +18,7 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge;
+import io.opentelemetry.javaagent.bootstrap.executors.ContextPropagatingCallable;
 import io.opentelemetry.javaagent.bootstrap.executors.ContextPropagatingRunnable;
 import io.opentelemetry.javaagent.bootstrap.executors.ExecutorAdviceHelper;
 import io.opentelemetry.javaagent.bootstrap.executors.PropagatedContext;
@@ -89,12 +90,16 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) Runnable task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (!ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
         return null;
       }
-      if (ContextPropagatingRunnable.shouldDecorateRunnable(task)) {
+      // tasks of thread per task executors (e.g. virtual threads) run once, so they can be wrapped
+      if (ContextPropagatingRunnable.shouldDecorateRunnable(task)
+          || (ExecutorAdviceHelper.isThreadPerTaskExecutor(executor)
+              && !(task instanceof ContextPropagatingRunnable))) {
         task = ContextPropagatingRunnable.propagateContext(task, context);
         return null;
       }
@@ -136,9 +141,15 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) Runnable task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
+        // thread per task executors submit the runnable as a callable, which is wrapped when it is
+        // submitted, wrapping the runnable here would propagate the context twice
+        if (ExecutorAdviceHelper.isThreadPerTaskExecutor(executor)) {
+          return null;
+        }
         VirtualField<Runnable, PropagatedContext> virtualField =
             VirtualField.find(Runnable.class, PropagatedContext.class);
         return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
@@ -164,9 +175,16 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
   public static class SetCallableStateAdvice {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
-    public static PropagatedContext enterJobSubmit(@Advice.Argument(0) Callable<?> task) {
+    public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
+        @Advice.Argument(value = 0, readOnly = false) Callable<?> task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
+        if (ExecutorAdviceHelper.isThreadPerTaskExecutor(executor)
+            && ContextPropagatingCallable.shouldDecorateCallable(task)) {
+          task = ContextPropagatingCallable.propagateContext(task, context);
+          return null;
+        }
         VirtualField<Callable<?>, PropagatedContext> virtualField =
             VirtualField.find(Callable.class, PropagatedContext.class);
         return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
@@ -5,10 +5,21 @@
 
 package io.opentelemetry.javaagent.instrumentation.executors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.instrumentation.testing.junit.AgentInstrumentationExtension;
 import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 class VirtualThreadExecutorTest
@@ -25,4 +36,112 @@ class VirtualThreadExecutorTest
   protected JavaAsyncChild newTask(boolean doTraceableWork, boolean blockThread) {
     return new JavaAsyncChild(doTraceableWork, blockThread);
   }
+
+  @Test
+  void executePropagatesContextOnce() throws Exception {
+    TaskState state = new TaskState();
+    SpanContext parent =
+        testing.runWithSpan(
+            "parent",
+            () -> {
+              executor().execute(state::record);
+              return Span.current().getSpanContext();
+            });
+
+    state.await();
+    assertThat(state.spanContext.get()).isEqualTo(parent);
+    assertThat(state.wrapperFrames.get()).isEqualTo(1);
+  }
+
+  @Test
+  void submitRunnablePropagatesContextOnce() throws Exception {
+    TaskState state = new TaskState();
+    SpanContext parent =
+        testing.runWithSpan(
+            "parent",
+            () -> {
+              executor().submit((Runnable) state::record).get();
+              return Span.current().getSpanContext();
+            });
+
+    assertThat(state.spanContext.get()).isEqualTo(parent);
+    // ThreadPerTaskExecutor.submit(Runnable) delegates to submit(Callable)
+    assertThat(state.wrapperFrames.get()).isEqualTo(1);
+  }
+
+  @Test
+  void submitCallablePropagatesContextOnce() throws Exception {
+    TaskState state = new TaskState();
+    SpanContext parent =
+        testing.runWithSpan(
+            "parent",
+            () -> {
+              executor()
+                  .submit(
+                      () -> {
+                        state.record();
+                        return null;
+                      })
+                  .get();
+              return Span.current().getSpanContext();
+            });
+
+    assertThat(state.spanContext.get()).isEqualTo(parent);
+    assertThat(state.wrapperFrames.get()).isEqualTo(1);
+  }
+
+  @Test
+  void invokeAllPropagatesContextOnce() throws Exception {
+    TaskState state1 = new TaskState();
+    TaskState state2 = new TaskState();
+    SpanContext parent =
+        testing.runWithSpan(
+            "parent",
+            () -> {
+              executor()
+                  .invokeAll(
+                      Arrays.<Callable<Object>>asList(
+                          () -> {
+                            state1.record();
+                            return null;
+                          },
+                          () -> {
+                            state2.record();
+                            return null;
+                          }));
+              return Span.current().getSpanContext();
+            });
+
+    for (TaskState state : Arrays.asList(state1, state2)) {
+      assertThat(state.spanContext.get()).isEqualTo(parent);
+      assertThat(state.wrapperFrames.get()).isEqualTo(1);
+    }
+  }
+
+  private static class TaskState {
+    final AtomicReference<SpanContext> spanContext = new AtomicReference<>();
+    // number of context propagating wrappers that the task runs in
+    final AtomicInteger wrapperFrames = new AtomicInteger();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    void record() {
+      spanContext.set(Span.current().getSpanContext());
+      wrapperFrames.set(
+          (int)
+              Arrays.stream(new Throwable().getStackTrace())
+                  .filter(
+                      frame ->
+                          frame
+                              .getClassName()
+                              .startsWith(
+                                  "io.opentelemetry.javaagent.bootstrap.executors."
+                                      + "ContextPropagating"))
+                  .count());
+      latch.countDown();
+    }
+
+    void await() throws InterruptedException {
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static java.util.logging.Level.FINE;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+
+/**
+ * Fetches all the attributes that the enrolled metric extractors read from an MBean with a single
+ * {@link MBeanServerConnection#getAttributes(ObjectName, String[])} call, and shares the values
+ * between the metric callbacks of a collection.
+ *
+ * <p>The SDK invokes the callback of every instrument separately, so the start of a collection is
+ * detected per MBean: the values are fetched again when an extractor reads an MBean for the second
+ * time, or when they are more than a few seconds old.
+ */
+final class AttributeValueCache {
+
+  private static final Logger logger = Logger.getLogger(AttributeValueCache.class.getName());
+
+  // bounds how stale the values can be, when the extractors of an MBean don't all read it
+  private static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  // names of the attributes read by the extractors enrolled for each MBean
+  private final ConcurrentMap<ObjectName, Set<String>> attributeNames = new ConcurrentHashMap<>();
+  private final ConcurrentMap<ObjectName, Entry> entries = new ConcurrentHashMap<>();
+
+  /** Adds attributes to fetch from the MBean. */
+  void register(ObjectName objectName, Collection<String> names) {
+    if (!names.isEmpty()) {
+      attributeNames
+          .computeIfAbsent(objectName, unused -> ConcurrentHashMap.newKeySet())
+          .addAll(names);
+    }
+  }
+
+  /** Forgets all the MBeans except the passed ones. */
+  void retainAll(Set<ObjectName> objectNames) {
+    attributeNames.keySet().retainAll(objectNames);
+    entries.keySet().retainAll(objectNames);
+  }
+
+  void remove(ObjectName objectName) {
+    attributeNames.remove(objectName);
+    entries.remove(objectName);
+  }
+
+  /**
+   * Returns the values of the attributes of the MBean that are read by the extractors. An attribute
+   * that could not be fetched is missing from the returned map.
+   *
+   * @param reader the extractor reading the values, identifies the collections
+   */
+  Map<String, Object> getValues(
+      MBeanServerConnection connection, ObjectName objectName, MetricExtractor reader) {
+    Entry entry = entries.get(objectName);
+    long now = System.nanoTime();
+    if (entry != null && entry.tryRead(connection, reader, now)) {
+      return entry.values;
+    }
+    entry = new Entry(connection, fetch(connection, objectName), now);
+    entry.tryRead(connection, reader, now);
+    entries.put(objectName, entry);
+    return entry.values;
+  }
+
+  private Map<String, Object> fetch(MBeanServerConnection connection, ObjectName objectName) {
+    Set<String> names = attributeNames.get(objectName);
+    if (names == null || names.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    try {
+      AttributeList attributes = connection.getAttributes(objectName, names.toArray(new String[0]));
+      Map<String, Object> values = new HashMap<>();
+      for (Attribute attribute : attributes.asList()) {
+        values.put(attribute.getName(), attribute.getValue());
+      }
+      return values;
+    } catch (Exception e) {
+      // the attributes will be read one at a time
+      logger.log(
+          FINE,
+          "Encountered {0} while fetching the attributes of ObjectName {1}",
+          new Object[] {e, objectName});
+      return Collections.emptyMap();
+    }
+  }
+
+  private static final class Entry {
+    private final MBeanServerConnection connection;
+    private final Map<String, Object> values;
+    private final long fetchedNanos;
+    // the extractors that already read the values during this collection
+    private final Set<MetricExtractor> readers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Entry(MBeanServerConnection connection, Map<String, Object> values, long fetchedNanos) {
+      this.connection = connection;
+      this.values = values;
+      this.fetchedNanos = fetchedNanos;
+    }
+
+    synchronized boolean tryRead(
+        MBeanServerConnection connection, MetricExtractor reader, long now) {
+      if (connection != this.connection || now - fetchedNanos > MAX_AGE_NANOS) {
+        return false;
+      }
+      return readers.add(reader);
+    }
+  }
+}
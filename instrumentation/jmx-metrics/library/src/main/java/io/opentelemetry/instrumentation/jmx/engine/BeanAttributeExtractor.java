@@ -10,6 +10,7 @@ import static java.util.logging.Level.INFO;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
@@ -111,6 +112,11 @@ public class BeanAttributeExtractor implements MetricAttributeExtractor {
     this.nameChain = nameChain;
   }
 
+  /** Returns the name of the MBean attribute that the value is extracted from. */
+  String getBaseName() {
+    return baseName;
+  }
+
   /**
    * Get a human readable name of the attribute to extract. Used to form the metric name if none is
    * provided. Also useful for logging or debugging.
@@ -210,8 +216,24 @@ public class BeanAttributeExtractor implements MetricAttributeExtractor {
   @Nullable
   private Object extractAttributeValue(
       MBeanServerConnection connection, ObjectName objectName, Logger logger) {
+    return extractAttributeValue(connection, objectName, null, logger);
+  }
+
+  /**
+   * Same as {@link #extractAttributeValue(MBeanServerConnection, ObjectName, Logger)}, using the
+   * value of the attribute from the passed values when they contain it.
+   */
+  @Nullable
+  private Object extractAttributeValue(
+      MBeanServerConnection connection,
+      ObjectName objectName,
+      @Nullable Map<String, Object> values,
+      @Nullable Logger logger) {
     try {
-      Object value = connection.getAttribute(objectName, baseName);
+      Object value =
+          values != null && values.containsKey(baseName)
+              ? values.get(baseName)
+              : connection.getAttribute(objectName, baseName);
 
       int k = 0;
       while (k < nameChain.length) {
@@ -248,13 +270,20 @@ public class BeanAttributeExtractor implements MetricAttributeExtractor {
   }
 
   @Nullable
-  private Object extractAttributeValue(MBeanServerConnection connection, ObjectName objectName) {
-    return extractAttributeValue(connection, objectName, null);
+  Number extractNumericalAttribute(MBeanServerConnection connection, ObjectName objectName) {
+    return extractNumericalAttribute(connection, objectName, null);
   }
 
+  /**
+   * Extracts the numerical value, from the passed attribute values when they contain the attribute
+   * or from the MBean otherwise.
+   */
   @Nullable
-  Number extractNumericalAttribute(MBeanServerConnection connection, ObjectName objectName) {
-    Object value = extractAttributeValue(connection, objectName);
+  Number extractNumericalAttribute(
+      MBeanServerConnection connection,
+      ObjectName objectName,
+      @Nullable Map<String, Object> values) {
+    Object value = extractAttributeValue(connection, objectName, values, null);
     if (value instanceof Number) {
       return (Number) value;
     }
@@ -264,12 +293,27 @@ public class BeanAttributeExtractor implements MetricAttributeExtractor {
   @Override
   @Nullable
   public String extractValue(MBeanServerConnection connection, ObjectName objectName) {
-    return extractStringAttribute(connection, objectName);
+    return extractStringAttribute(connection, objectName, null);
+  }
+
+  /**
+   * Extracts the string value, from the passed attribute values when they contain the attribute or
+   * from the MBean otherwise.
+   */
+  @Nullable
+  String extractValue(
+      MBeanServerConnection connection,
+      ObjectName objectName,
+      @Nullable Map<String, Object> values) {
+    return extractStringAttribute(connection, objectName, values);
   }
 
   @Nullable
-  private String extractStringAttribute(MBeanServerConnection connection, ObjectName objectName) {
-    Object value = extractAttributeValue(connection, objectName);
+  private String extractStringAttribute(
+      MBeanServerConnection connection,
+      ObjectName objectName,
+      @Nullable Map<String, Object> values) {
+    Object value = extractAttributeValue(connection, objectName, values, null);
     if (value instanceof String) {
       return (String) value;
     }
@@ -8,7 +8,9 @@ package io.opentelemetry.instrumentation.jmx.engine;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
@@ -17,17 +19,32 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.management.InstanceNotFoundException;
 import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectName;
+import javax.management.QueryExp;
+import javax.management.relation.MBeanServerNotificationFilter;
 
 /**
  * A class responsible for finding MBeans that match metric definitions specified by a set of
  * MetricDefs.
+ *
+ * <p>By default all the MBean servers are scanned periodically, with an increasing delay between
+ * the scans. When notification discovery is enabled, MBean (un)registrations are received from the
+ * {@link MBeanServerDelegate} of every server and applied to the registered metrics as they
+ * happen, and the full scans only run every 10 minutes to catch up with missed notifications.
  */
 class BeanFinder {
 
   private static final Logger logger = Logger.getLogger(BeanFinder.class.getName());
 
+  // delay between the full scans once notifications are received
+  private static final long RECONCILIATION_DELAY = TimeUnit.MINUTES.toMillis(10);
+
   private final MetricRegistrar registrar;
   private MetricConfiguration conf;
   private final ScheduledExecutorService exec =
@@ -40,11 +57,21 @@ class BeanFinder {
   private final long discoveryDelay;
   private final long maxDelay;
   private long delay = 1000; // number of milliseconds until first attempt to discover MBeans
+  private final boolean notificationDiscoveryEnabled;
+  // only accessed by the executor thread
+  private final Set<MBeanServerConnection> subscribedConnections =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+  private final NotificationListener notificationListener = this::handleNotification;
 
   BeanFinder(MetricRegistrar registrar, long discoveryDelay) {
+    this(registrar, discoveryDelay, false);
+  }
+
+  BeanFinder(MetricRegistrar registrar, long discoveryDelay, boolean notificationDiscoveryEnabled) {
     this.registrar = registrar;
     this.discoveryDelay = Math.max(1000, discoveryDelay); // Enforce sanity
     this.maxDelay = Math.max(60000, discoveryDelay);
+    this.notificationDiscoveryEnabled = notificationDiscoveryEnabled;
   }
 
   /**
@@ -75,9 +102,18 @@ class BeanFinder {
         new Runnable() {
           @Override
           public void run() {
-            refreshState(connections);
-            // Use discoveryDelay as the increment for the actual delay
-            delay = Math.min(delay + discoveryDelay, maxDelay);
+            List<? extends MBeanServerConnection> servers = connections.get();
+            boolean subscribed = notificationDiscoveryEnabled && subscribe(servers);
+            long startNanos = System.nanoTime();
+            refreshState(servers);
+            registrar.pruneAttributeValues();
+            registrar.recordDiscoveryDuration(System.nanoTime() - startNanos, MetricRegistrar.SCAN);
+            if (subscribed) {
+              delay = RECONCILIATION_DELAY;
+            } else {
+              // Use discoveryDelay as the increment for the actual delay
+              delay = Math.min(delay + discoveryDelay, maxDelay);
+            }
             exec.schedule(this, delay, TimeUnit.MILLISECONDS);
           }
         },
@@ -91,11 +127,9 @@ class BeanFinder {
    * handling. Successive invocations of this method may find matches that were previously
    * unavailable, in such cases MetricRegistrar will extend the coverage for the new MBeans
    *
-   * @param connections supplier providing {@link MBeanServerConnection} instances to query
+   * @param servers the {@link MBeanServerConnection} instances to query
    */
-  private void refreshState(Supplier<List<? extends MBeanServerConnection>> connections) {
-    List<? extends MBeanServerConnection> servers = connections.get();
-
+  private void refreshState(List<? extends MBeanServerConnection> servers) {
     for (MetricDef metricDef : conf.getMetricDefs()) {
       resolveBeans(metricDef, servers);
     }
@@ -167,4 +201,92 @@ class BeanFinder {
       }
     }
   }
+
+  /**
+   * Subscribes to the MBean registration notifications of the servers that were not subscribed to
+   * yet. Subscribing before scanning makes sure that the MBeans registered during the scan are
+   * not missed, their notifications are handled after the scan by the executor thread.
+   *
+   * @return whether notifications are received from all the servers
+   */
+  private boolean subscribe(List<? extends MBeanServerConnection> servers) {
+    boolean allSubscribed = true;
+    for (MBeanServerConnection connection : servers) {
+      if (subscribedConnections.contains(connection)) {
+        continue;
+      }
+      MBeanServerNotificationFilter filter = new MBeanServerNotificationFilter();
+      filter.enableAllObjectNames();
+      try {
+        connection.addNotificationListener(
+            MBeanServerDelegate.DELEGATE_NAME, notificationListener, filter, connection);
+        subscribedConnections.add(connection);
+      } catch (IOException | InstanceNotFoundException e) {
+        logger.log(Level.WARNING, "Unable to subscribe to MBean registration notifications", e);
+        allSubscribed = false;
+      }
+    }
+    return allSubscribed;
+  }
+
+  private void handleNotification(Notification notification, Object handback) {
+    if (!(notification instanceof MBeanServerNotification)) {
+      return;
+    }
+    MBeanServerConnection connection = (MBeanServerConnection) handback;
+    ObjectName objectName = ((MBeanServerNotification) notification).getMBeanName();
+    String type = notification.getType();
+    // serialize with the scans, and don't block the thread sending the notifications
+    if (MBeanServerNotification.REGISTRATION_NOTIFICATION.equals(type)) {
+      exec.execute(() -> beanRegistered(connection, objectName));
+    } else if (MBeanServerNotification.UNREGISTRATION_NOTIFICATION.equals(type)) {
+      exec.execute(() -> registrar.unenrollBean(connection, objectName));
+    }
+  }
+
+  /**
+   * Enrolls a newly registered MBean for all the metric definitions it matches, without querying
+   * the other MBeans of the server.
+   */
+  private void beanRegistered(MBeanServerConnection connection, ObjectName objectName) {
+    long startNanos = System.nanoTime();
+    for (MetricDef metricDef : conf.getMetricDefs()) {
+      if (!matches(metricDef.getBeanGroup(), connection, objectName)) {
+        continue;
+      }
+      for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
+        AttributeInfo attributeInfo =
+            extractor.getMetricValueExtractor().getAttributeInfo(connection, objectName);
+        if (attributeInfo != null) {
+          registrar.enrollBean(connection, objectName, extractor, attributeInfo);
+        }
+      }
+    }
+    registrar.recordDiscoveryDuration(System.nanoTime() - startNanos, MetricRegistrar.NOTIFICATION);
+  }
+
+  private static boolean matches(
+      BeanGroup beans, MBeanServerConnection connection, ObjectName objectName) {
+    boolean matchesPattern = false;
+    for (ObjectName pattern : beans.getNamePatterns()) {
+      if (pattern.apply(objectName)) {
+        matchesPattern = true;
+        break;
+      }
+    }
+    if (!matchesPattern) {
+      return false;
+    }
+    QueryExp queryExp = beans.getQueryExp();
+    if (queryExp == null) {
+      return true;
+    }
+    try {
+      // querying a single name is cheap, and evaluates the query on the server
+      return !connection.queryNames(objectName, queryExp).isEmpty();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "IO error while resolving mbean", e);
+      return false;
+    }
+  }
 }
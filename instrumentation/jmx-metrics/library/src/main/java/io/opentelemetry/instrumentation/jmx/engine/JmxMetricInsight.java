@@ -23,18 +23,35 @@ public class JmxMetricInsight {
 
   private final OpenTelemetry openTelemetry;
   private final long discoveryDelay;
+  private final boolean notificationDiscoveryEnabled;
 
   public static JmxMetricInsight createService(OpenTelemetry ot, long discoveryDelay) {
-    return new JmxMetricInsight(ot, discoveryDelay);
+    return new JmxMetricInsight(ot, discoveryDelay, false);
+  }
+
+  /**
+   * Creates the service.
+   *
+   * @param ot the {@link OpenTelemetry} instance used to report the metrics
+   * @param discoveryDelay the number of milliseconds between the first MBean discovery attempts
+   * @param notificationDiscoveryEnabled whether MBean registrations are tracked using the
+   *     notifications of the MBean servers, the servers are then only scanned periodically to
+   *     catch up with missed notifications
+   */
+  public static JmxMetricInsight createService(
+      OpenTelemetry ot, long discoveryDelay, boolean notificationDiscoveryEnabled) {
+    return new JmxMetricInsight(ot, discoveryDelay, notificationDiscoveryEnabled);
   }
 
   public static Logger getLogger() {
     return logger;
   }
 
-  private JmxMetricInsight(OpenTelemetry openTelemetry, long discoveryDelay) {
+  private JmxMetricInsight(
+      OpenTelemetry openTelemetry, long discoveryDelay, boolean notificationDiscoveryEnabled) {
     this.openTelemetry = openTelemetry;
     this.discoveryDelay = discoveryDelay;
+    this.notificationDiscoveryEnabled = notificationDiscoveryEnabled;
   }
 
   /**
@@ -66,7 +83,7 @@ public class JmxMetricInsight {
               + INSTRUMENTATION_SCOPE);
     } else {
       MetricRegistrar registrar = new MetricRegistrar(openTelemetry, INSTRUMENTATION_SCOPE);
-      BeanFinder finder = new BeanFinder(registrar, discoveryDelay);
+      BeanFinder finder = new BeanFinder(registrar, discoveryDelay, notificationDiscoveryEnabled);
       finder.discoverBeans(conf, connections);
     }
   }
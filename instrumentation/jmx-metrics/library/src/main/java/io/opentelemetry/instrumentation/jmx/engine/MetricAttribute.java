@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.jmx.engine;
 
+import java.util.Map;
+import javax.annotation.Nullable;
 import javax.management.MBeanServerConnection;
 import javax.management.ObjectName;
 
@@ -29,4 +31,26 @@ public class MetricAttribute {
   String acquireAttributeValue(MBeanServerConnection connection, ObjectName objectName) {
     return extractor.extractValue(connection, objectName);
   }
+
+  /**
+   * Same as {@link #acquireAttributeValue(MBeanServerConnection, ObjectName)}, using the passed
+   * MBean attribute values when they contain the attribute.
+   */
+  @Nullable
+  String acquireAttributeValue(
+      MBeanServerConnection connection, ObjectName objectName, Map<String, Object> values) {
+    if (extractor instanceof BeanAttributeExtractor) {
+      return ((BeanAttributeExtractor) extractor).extractValue(connection, objectName, values);
+    }
+    return extractor.extractValue(connection, objectName);
+  }
+
+  /** Returns the name of the MBean attribute read by the extractor, if it reads one. */
+  @Nullable
+  String getBeanAttributeName() {
+    if (extractor instanceof BeanAttributeExtractor) {
+      return ((BeanAttributeExtractor) extractor).getBaseName();
+    }
+    return null;
+  }
 }
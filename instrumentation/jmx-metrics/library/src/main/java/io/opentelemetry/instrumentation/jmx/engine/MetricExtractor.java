@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.jmx.engine;
 
+import java.util.HashSet;
+import java.util.Set;
 import javax.annotation.Nullable;
 
 /**
@@ -47,6 +49,19 @@ public class MetricExtractor {
     return attributes;
   }
 
+  /** Returns the names of all the MBean attributes read to report the metric values. */
+  Set<String> getBeanAttributeNames() {
+    Set<String> names = new HashSet<>();
+    names.add(attributeExtractor.getBaseName());
+    for (MetricAttribute attribute : attributes) {
+      String name = attribute.getBeanAttributeName();
+      if (name != null) {
+        names.add(name);
+      }
+    }
+    return names;
+  }
+
   void setStatus(DetectionStatus status) {
     this.status = status;
   }
@@ -5,19 +5,28 @@
 
 package io.opentelemetry.instrumentation.jmx.engine;
 
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static java.util.logging.Level.INFO;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.metrics.DoubleGaugeBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.LongCounterBuilder;
 import io.opentelemetry.api.metrics.LongUpDownCounterBuilder;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 import javax.management.MBeanServerConnection;
@@ -28,10 +37,37 @@ class MetricRegistrar {
 
   private static final Logger logger = Logger.getLogger(MetricRegistrar.class.getName());
 
+  private static final AttributeKey<String> DISCOVERY_TRIGGER = stringKey("jmx.discovery.trigger");
+  static final Attributes SCAN = Attributes.of(DISCOVERY_TRIGGER, "scan");
+  static final Attributes NOTIFICATION = Attributes.of(DISCOVERY_TRIGGER, "notification");
+
   private final Meter meter;
+  private final Set<MetricExtractor> enrolledExtractors = ConcurrentHashMap.newKeySet();
+  // fetches the attributes of each MBean once per collection
+  private final AttributeValueCache attributeValues = new AttributeValueCache();
+  private final DoubleHistogram discoveryDuration;
 
   MetricRegistrar(OpenTelemetry openTelemetry, String instrumentationScope) {
     meter = openTelemetry.getMeter(instrumentationScope);
+    discoveryDuration =
+        meter
+            .histogramBuilder("otel.jmx.discovery.duration")
+            .setUnit("s")
+            .setDescription("Duration of looking up the MBeans matching the metric definitions.")
+            .build();
+    meter
+        .upDownCounterBuilder("otel.jmx.discovery.beans")
+        .setUnit("{mbean}")
+        .setDescription("Number of MBeans that metric values are collected from.")
+        .buildWithCallback(measurement -> measurement.record(getTrackedBeanCount()));
+  }
+
+  /**
+   * Records the time spent looking up MBeans, either by a full scan or when an MBean registration
+   * notification was received.
+   */
+  void recordDiscoveryDuration(long durationNanos, Attributes trigger) {
+    discoveryDuration.record(durationNanos / 1e9, trigger);
   }
 
   /**
@@ -48,6 +84,11 @@ class MetricRegistrar {
       Collection<ObjectName> objectNames,
       MetricExtractor extractor,
       AttributeInfo attributeInfo) {
+    Set<String> attributeNames = extractor.getBeanAttributeNames();
+    for (ObjectName objectName : objectNames) {
+      attributeValues.register(objectName, attributeNames);
+    }
+
     // For the first enrollment of the extractor we have to build the corresponding Instrument
     DetectionStatus status = new DetectionStatus(connection, objectNames);
     boolean firstEnrollment;
@@ -60,6 +101,7 @@ class MetricRegistrar {
     if (!firstEnrollment) {
       return;
     }
+    enrolledExtractors.add(extractor);
 
     MetricInfo metricInfo = extractor.getInfo();
     String metricName = metricInfo.getMetricName();
@@ -123,21 +165,89 @@ class MetricRegistrar {
     }
   }
 
+  /**
+   * Adds a single MBean to the MBeans of the extractor, when it is registered after the extractor
+   * was enrolled.
+   */
+  void enrollBean(
+      MBeanServerConnection connection,
+      ObjectName objectName,
+      MetricExtractor extractor,
+      AttributeInfo attributeInfo) {
+    synchronized (extractor) {
+      DetectionStatus status = extractor.getStatus();
+      if (status != null) {
+        // the MBeans of an extractor are expected to be provided by a single server
+        if (status.getConnection() == connection
+            && !status.getObjectNames().contains(objectName)) {
+          attributeValues.register(objectName, extractor.getBeanAttributeNames());
+          List<ObjectName> objectNames = new ArrayList<>(status.getObjectNames());
+          objectNames.add(objectName);
+          extractor.setStatus(new DetectionStatus(connection, objectNames));
+        }
+        return;
+      }
+    }
+    List<ObjectName> objectNames = new ArrayList<>();
+    objectNames.add(objectName);
+    enrollExtractor(connection, objectNames, extractor, attributeInfo);
+  }
+
+  /** Stops collecting metric values from an MBean that was unregistered. */
+  void unenrollBean(MBeanServerConnection connection, ObjectName objectName) {
+    attributeValues.remove(objectName);
+    for (MetricExtractor extractor : enrolledExtractors) {
+      synchronized (extractor) {
+        DetectionStatus status = extractor.getStatus();
+        if (status != null
+            && status.getConnection() == connection
+            && status.getObjectNames().contains(objectName)) {
+          List<ObjectName> objectNames = new ArrayList<>(status.getObjectNames());
+          objectNames.remove(objectName);
+          extractor.setStatus(new DetectionStatus(connection, objectNames));
+        }
+      }
+    }
+  }
+
+  /** Forgets the attributes of the MBeans that are no longer tracked after a full scan. */
+  void pruneAttributeValues() {
+    attributeValues.retainAll(getTrackedBeans());
+  }
+
+  private int getTrackedBeanCount() {
+    return getTrackedBeans().size();
+  }
+
+  private Set<ObjectName> getTrackedBeans() {
+    Set<ObjectName> objectNames = new HashSet<>();
+    for (MetricExtractor extractor : enrolledExtractors) {
+      DetectionStatus status = extractor.getStatus();
+      if (status != null) {
+        objectNames.addAll(status.getObjectNames());
+      }
+    }
+    return objectNames;
+  }
+
   /*
    * A method generating metric collection callback for asynchronous Measurement
    * of Double type.
    */
-  static Consumer<ObservableDoubleMeasurement> doubleTypeCallback(MetricExtractor extractor) {
+  Consumer<ObservableDoubleMeasurement> doubleTypeCallback(MetricExtractor extractor) {
     return measurement -> {
       DetectionStatus status = extractor.getStatus();
       if (status != null) {
         MBeanServerConnection connection = status.getConnection();
         for (ObjectName objectName : status.getObjectNames()) {
+          Map<String, Object> values = attributeValues.getValues(connection, objectName, extractor);
           Number metricValue =
-              extractor.getMetricValueExtractor().extractNumericalAttribute(connection, objectName);
+              extractor
+                  .getMetricValueExtractor()
+                  .extractNumericalAttribute(connection, objectName, values);
           if (metricValue != null) {
             // get the metric attributes
-            Attributes attr = createMetricAttributes(connection, objectName, extractor);
+            Attributes attr = createMetricAttributes(connection, objectName, extractor, values);
             measurement.record(metricValue.doubleValue(), attr);
           }
         }
@@ -149,17 +259,20 @@ class MetricRegistrar {
    * A method generating metric collection callback for asynchronous Measurement
    * of Long type.
    */
-  static Consumer<ObservableLongMeasurement> longTypeCallback(MetricExtractor extractor) {
+  Consumer<ObservableLongMeasurement> longTypeCallback(MetricExtractor extractor) {
     return measurement -> {
       DetectionStatus status = extractor.getStatus();
       if (status != null) {
         MBeanServerConnection connection = status.getConnection();
         for (ObjectName objectName : status.getObjectNames()) {
+          Map<String, Object> values = attributeValues.getValues(connection, objectName, extractor);
           Number metricValue =
-              extractor.getMetricValueExtractor().extractNumericalAttribute(connection, objectName);
+              extractor
+                  .getMetricValueExtractor()
+                  .extractNumericalAttribute(connection, objectName, values);
           if (metricValue != null) {
             // get the metric attributes
-            Attributes attr = createMetricAttributes(connection, objectName, extractor);
+            Attributes attr = createMetricAttributes(connection, objectName, extractor, values);
             measurement.record(metricValue.longValue(), attr);
           }
         }
@@ -172,11 +285,14 @@ class MetricRegistrar {
    * the metric values
    */
   static Attributes createMetricAttributes(
-      MBeanServerConnection connection, ObjectName objectName, MetricExtractor extractor) {
+      MBeanServerConnection connection,
+      ObjectName objectName,
+      MetricExtractor extractor,
+      Map<String, Object> values) {
     MetricAttribute[] metricAttributes = extractor.getAttributes();
     AttributesBuilder attrBuilder = Attributes.builder();
     for (MetricAttribute metricAttribute : metricAttributes) {
-      String attributeValue = metricAttribute.acquireAttributeValue(connection, objectName);
+      String attributeValue = metricAttribute.acquireAttributeValue(connection, objectName, values);
       if (attributeValue != null) {
         attrBuilder = attrBuilder.put(metricAttribute.getAttributeName(), attributeValue);
       }
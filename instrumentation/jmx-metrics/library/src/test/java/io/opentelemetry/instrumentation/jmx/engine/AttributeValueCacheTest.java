@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AttributeValueCacheTest {
+
+  @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+  public interface PoolMBean {
+    int getActive();
+
+    int getIdle();
+  }
+
+  private static class Pool implements PoolMBean {
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Override
+    public int getActive() {
+      return reads.incrementAndGet();
+    }
+
+    @Override
+    public int getIdle() {
+      return 5;
+    }
+  }
+
+  private MBeanServer server;
+  private ObjectName objectName;
+  private Pool pool;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = MBeanServerFactory.newMBeanServer("otel.jmx.cache.test");
+    objectName = new ObjectName("otel.jmx.cache.test:type=Pool");
+    pool = new Pool();
+    server.registerMBean(pool, objectName);
+  }
+
+  @Test
+  void sharesValuesWithinCollection() {
+    MetricExtractor active = extractor("Active");
+    MetricExtractor idle = extractor("Idle");
+    AttributeValueCache cache = new AttributeValueCache();
+    cache.register(objectName, Arrays.asList("Active", "Idle"));
+
+    Map<String, Object> values = cache.getValues(server, objectName, active);
+    assertThat(values).containsEntry("Active", 1).containsEntry("Idle", 5);
+    // another extractor of the same collection
+    assertThat(cache.getValues(server, objectName, idle)).isSameAs(values);
+    assertThat(pool.reads).hasValue(1);
+
+    // the first extractor reads again, so a new collection started
+    assertThat(cache.getValues(server, objectName, active)).containsEntry("Active", 2);
+    assertThat(pool.reads).hasValue(2);
+  }
+
+  @Test
+  void readsUnregisteredAttributesFromMBean() {
+    MetricExtractor active = extractor("Active");
+    AttributeValueCache cache = new AttributeValueCache();
+
+    Map<String, Object> values = cache.getValues(server, objectName, active);
+    assertThat(values).isEmpty();
+    assertThat(
+            active.getMetricValueExtractor().extractNumericalAttribute(server, objectName, values))
+        .isEqualTo(1);
+  }
+
+  private static MetricExtractor extractor(String attributeName) {
+    return new MetricExtractor(
+        new BeanAttributeExtractor(attributeName),
+        new MetricInfo("test." + attributeName, null, "1", MetricInfo.Type.GAUGE));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BeanFinderTest {
+
+  @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+  public interface CounterMBean {
+    long getValue();
+  }
+
+  private static class Counter implements CounterMBean {
+    @Override
+    public long getValue() {
+      return 42;
+    }
+  }
+
+  private MBeanServer server;
+
+  @BeforeEach
+  void setUp() {
+    // not registered with the factory, so that other tests don't see it
+    server = MBeanServerFactory.newMBeanServer("otel.jmx.finder.test");
+  }
+
+  @Test
+  void tracksRegistrationsWithNotifications() throws Exception {
+    ObjectName first = new ObjectName("otel.jmx.finder.test:type=Counter,name=first");
+    ObjectName second = new ObjectName("otel.jmx.finder.test:type=Counter,name=second");
+    ObjectName other = new ObjectName("otel.jmx.finder.test:type=Other,name=other");
+    server.registerMBean(new Counter(), first);
+
+    MetricExtractor extractor =
+        new MetricExtractor(
+            new BeanAttributeExtractor("Value"),
+            new MetricInfo("test.counter", null, "1", MetricInfo.Type.GAUGE));
+    MetricConfiguration conf = new MetricConfiguration();
+    conf.addMetricDef(
+        new MetricDef(
+            new BeanGroup(null, new ObjectName("otel.jmx.finder.test:type=Counter,*")), extractor));
+    MetricRegistrar registrar = new MetricRegistrar(OpenTelemetry.noop(), "test");
+    BeanFinder finder = new BeanFinder(registrar, 1000, true);
+
+    finder.discoverBeans(conf, () -> Collections.singletonList(server));
+
+    // found by the first scan, which runs after subscribing to the notifications
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat(objectNames(extractor)).containsExactly(first));
+
+    server.registerMBean(new Counter(), second);
+    server.registerMBean(new Counter(), other);
+    await().untilAsserted(() -> assertThat(objectNames(extractor)).contains(second));
+
+    server.unregisterMBean(first);
+    await().untilAsserted(() -> assertThat(objectNames(extractor)).containsExactly(second));
+  }
+
+  private static Collection<ObjectName> objectNames(MetricExtractor extractor) {
+    DetectionStatus status = extractor.getStatus();
+    return status == null ? Collections.emptyList() : status.getObjectNames();
+  }
+}
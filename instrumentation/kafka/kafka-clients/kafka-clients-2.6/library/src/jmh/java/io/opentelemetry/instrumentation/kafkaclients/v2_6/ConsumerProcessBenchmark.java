@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients.v2_6;
+
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.instrumentation.kafka.internal.KafkaConsumerContext;
+import io.opentelemetry.instrumentation.kafka.internal.KafkaConsumerContextUtil;
+import io.opentelemetry.instrumentation.kafka.internal.TracingBatch;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Compares the overhead of tracing a polled batch with a span per record or a single span. */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ConsumerProcessBenchmark {
+
+  private static final String TOPIC = "benchmark";
+
+  // 500 is the default max.poll.records
+  @Param({"1", "50", "500"})
+  public int recordCount;
+
+  // how many records in a row are produced by the same upstream span
+  @Param({"1", "50"})
+  public int recordsPerUpstreamSpan;
+
+  private KafkaTelemetry perRecordTelemetry;
+  private KafkaTelemetry batchTelemetry;
+  private ConsumerRecords<String, String> records;
+  private KafkaConsumerContext consumerContext;
+
+  @Setup
+  public void setup() {
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder()
+            // no span processor, spans are recorded and sampled but not exported
+            .setTracerProvider(SdkTracerProvider.builder().build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+    perRecordTelemetry = KafkaTelemetry.create(openTelemetry);
+    batchTelemetry = KafkaTelemetry.builder(openTelemetry).setBatchProcessEnabled(true).build();
+
+    TopicPartition partition = new TopicPartition(TOPIC, 0);
+    List<ConsumerRecord<String, String>> list = new ArrayList<>(recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 0, i, null, "value");
+      // every other upstream span is not sampled
+      int upstreamSpan = i / recordsPerUpstreamSpan;
+      String traceFlags = upstreamSpan % 2 == 0 ? "01" : "00";
+      String traceparent =
+          String.format("00-%032x-%016x-%s", upstreamSpan + 1, upstreamSpan + 1, traceFlags);
+      record.headers().add("traceparent", traceparent.getBytes(StandardCharsets.UTF_8));
+      list.add(record);
+    }
+    records = new ConsumerRecords<>(Collections.singletonMap(partition, list));
+    consumerContext = KafkaConsumerContextUtil.create(Context.root(), "group", "client");
+  }
+
+  @Benchmark
+  public void perRecord(Blackhole blackhole) {
+    for (ConsumerRecord<String, String> record :
+        perRecordTelemetry.addTracing(records, consumerContext)) {
+      blackhole.consume(record);
+    }
+  }
+
+  @Benchmark
+  public void batch(Blackhole blackhole) {
+    AtomicReference<TracingBatch> currentBatch = new AtomicReference<>();
+    for (ConsumerRecord<String, String> record :
+        batchTelemetry.addBatchTracing(records, consumerContext, currentBatch)) {
+      blackhole.consume(record);
+    }
+  }
+}
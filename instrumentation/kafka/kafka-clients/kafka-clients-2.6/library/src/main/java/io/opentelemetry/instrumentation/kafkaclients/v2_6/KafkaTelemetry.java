@@ -25,6 +25,7 @@ import io.opentelemetry.instrumentation.kafka.internal.KafkaUtil;
 import io.opentelemetry.instrumentation.kafka.internal.MetricsReporterList;
 import io.opentelemetry.instrumentation.kafka.internal.OpenTelemetryMetricsReporter;
 import io.opentelemetry.instrumentation.kafka.internal.OpenTelemetrySupplier;
+import io.opentelemetry.instrumentation.kafka.internal.TracingBatch;
 import io.opentelemetry.instrumentation.kafka.internal.TracingList;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
@@ -34,8 +35,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -59,6 +62,8 @@ public final class KafkaTelemetry {
   private final Instrumenter<KafkaProducerRequest, RecordMetadata> producerInstrumenter;
   private final Instrumenter<KafkaReceiveRequest, Void> consumerReceiveInstrumenter;
   private final Instrumenter<KafkaProcessRequest, Void> consumerProcessInstrumenter;
+  // null unless batch process mode is enabled
+  @Nullable private final Instrumenter<KafkaReceiveRequest, Void> consumerBatchProcessInstrumenter;
   private final boolean producerPropagationEnabled;
 
   KafkaTelemetry(
@@ -66,11 +71,13 @@ public final class KafkaTelemetry {
       Instrumenter<KafkaProducerRequest, RecordMetadata> producerInstrumenter,
       Instrumenter<KafkaReceiveRequest, Void> consumerReceiveInstrumenter,
       Instrumenter<KafkaProcessRequest, Void> consumerProcessInstrumenter,
+      @Nullable Instrumenter<KafkaReceiveRequest, Void> consumerBatchProcessInstrumenter,
       boolean producerPropagationEnabled) {
     this.openTelemetry = openTelemetry;
     this.producerInstrumenter = producerInstrumenter;
     this.consumerReceiveInstrumenter = consumerReceiveInstrumenter;
     this.consumerProcessInstrumenter = consumerProcessInstrumenter;
+    this.consumerBatchProcessInstrumenter = consumerBatchProcessInstrumenter;
     this.producerPropagationEnabled = producerPropagationEnabled;
   }
 
@@ -122,11 +129,20 @@ public final class KafkaTelemetry {
   /** Returns a decorated {@link Consumer} that consumes spans for each received message. */
   @SuppressWarnings("unchecked")
   public <K, V> Consumer<K, V> wrap(Consumer<K, V> consumer) {
+    // the batch of records returned by the last poll(), only used in batch process mode
+    AtomicReference<TracingBatch> currentBatch = new AtomicReference<>();
     return (Consumer<K, V>)
         Proxy.newProxyInstance(
             KafkaTelemetry.class.getClassLoader(),
             new Class<?>[] {Consumer.class},
             (proxy, method, args) -> {
+              if ("poll".equals(method.getName()) || "close".equals(method.getName())) {
+                // the records returned by the previous poll() are not processed anymore
+                TracingBatch previousBatch = currentBatch.getAndSet(null);
+                if (previousBatch != null) {
+                  previousBatch.end();
+                }
+              }
               Object result;
               Timer timer = "poll".equals(method.getName()) ? Timer.start() : null;
               try {
@@ -144,7 +160,11 @@ public final class KafkaTelemetry {
                 }
                 KafkaConsumerContext consumerContext =
                     KafkaConsumerContextUtil.create(receiveContext, consumer);
-                result = addTracing(consumerRecords, consumerContext);
+                if (consumerBatchProcessInstrumenter != null) {
+                  result = addBatchTracing(consumerRecords, consumerContext, currentBatch);
+                } else {
+                  result = addTracing(consumerRecords, consumerContext);
+                }
               }
               return result;
             });
@@ -167,6 +187,28 @@ public final class KafkaTelemetry {
     return new ConsumerRecords<>(records);
   }
 
+  <K, V> ConsumerRecords<K, V> addBatchTracing(
+      ConsumerRecords<K, V> consumerRecords,
+      KafkaConsumerContext consumerContext,
+      AtomicReference<TracingBatch> currentBatch) {
+    if (consumerRecords.isEmpty()) {
+      return consumerRecords;
+    }
+
+    TracingBatch batch =
+        TracingBatch.create(consumerBatchProcessInstrumenter, consumerContext, consumerRecords);
+    currentBatch.set(batch);
+    Map<TopicPartition, List<ConsumerRecord<K, V>>> records = new LinkedHashMap<>();
+    for (TopicPartition partition : consumerRecords.partitions()) {
+      List<ConsumerRecord<K, V>> list = consumerRecords.records(partition);
+      if (list != null && !list.isEmpty()) {
+        list = TracingList.wrap(list, batch);
+      }
+      records.put(partition, list);
+    }
+    return new ConsumerRecords<>(records);
+  }
+
   /**
    * Produces a set of kafka client config properties (consumer or producer) to register a {@link
    * MetricsReporter} that records metrics to an {@code openTelemetry} instance. Add these resulting
@@ -33,6 +33,7 @@ public final class KafkaTelemetryBuilder {
   private boolean captureExperimentalSpanAttributes = false;
   private boolean propagationEnabled = true;
   private boolean messagingReceiveInstrumentationEnabled = false;
+  private boolean batchProcessEnabled = false;
 
   KafkaTelemetryBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = Objects.requireNonNull(openTelemetry);
@@ -116,6 +117,21 @@ public final class KafkaTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Set whether the records returned by a single {@code poll()} are processed in one span, instead
+   * of one span per record. Disabled by default.
+   *
+   * <p>The batch process span is started when the first record is taken from the returned records,
+   * and ended after the last record was iterated over, or at the latest on the next {@code poll()}.
+   * It is linked to the sampled upstream producer spans of the records in the batch. Enable this
+   * for consumers that handle large batches of records, where a span per record is too expensive.
+   */
+  @CanIgnoreReturnValue
+  public KafkaTelemetryBuilder setBatchProcessEnabled(boolean batchProcessEnabled) {
+    this.batchProcessEnabled = batchProcessEnabled;
+    return this;
+  }
+
   public KafkaTelemetry build() {
     KafkaInstrumenterFactory instrumenterFactory =
         new KafkaInstrumenterFactory(openTelemetry, INSTRUMENTATION_NAME)
@@ -128,6 +144,10 @@ public final class KafkaTelemetryBuilder {
         instrumenterFactory.createProducerInstrumenter(producerAttributesExtractors),
         instrumenterFactory.createConsumerReceiveInstrumenter(consumerReceiveAttributesExtractors),
         instrumenterFactory.createConsumerProcessInstrumenter(consumerProcessAttributesExtractors),
+        batchProcessEnabled
+            ? instrumenterFactory.createBatchProcessInstrumenter(
+                consumerReceiveAttributesExtractors, true)
+            : null,
         propagationEnabled);
   }
 }
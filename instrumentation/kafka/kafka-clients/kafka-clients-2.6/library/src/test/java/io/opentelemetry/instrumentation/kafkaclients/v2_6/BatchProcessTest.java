@@ -0,0 +1,120 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients.v2_6;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class BatchProcessTest {
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = LibraryInstrumentationExtension.create();
+
+  private static final String TOPIC = "batch-topic";
+  private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+  private static final SpanContext FIRST_UPSTREAM =
+      remoteSpanContext("ff01020304050600ff0a0b0c0d0e0f00", "090a0b0c0d0e0f00", true);
+  private static final SpanContext NOT_SAMPLED_UPSTREAM =
+      remoteSpanContext("ff01020304050600ff0a0b0c0d0e0f01", "090a0b0c0d0e0f01", false);
+  private static final SpanContext SECOND_UPSTREAM =
+      remoteSpanContext("ff01020304050600ff0a0b0c0d0e0f02", "090a0b0c0d0e0f02", true);
+
+  @Test
+  void processesBatchInOneSpan() {
+    KafkaTelemetry telemetry =
+        KafkaTelemetry.builder(testing.getOpenTelemetry()).setBatchProcessEnabled(true).build();
+
+    MockConsumer<String, String> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    mockConsumer.assign(singletonList(PARTITION));
+    mockConsumer.updateBeginningOffsets(singletonMap(PARTITION, 0L));
+    mockConsumer.addRecord(record(0, FIRST_UPSTREAM));
+    mockConsumer.addRecord(record(1, FIRST_UPSTREAM));
+    mockConsumer.addRecord(record(2, NOT_SAMPLED_UPSTREAM));
+    mockConsumer.addRecord(record(3, SECOND_UPSTREAM));
+
+    Consumer<String, String> wrappedConsumer = telemetry.wrap(mockConsumer);
+    ConsumerRecords<String, String> records = wrappedConsumer.poll(Duration.ZERO);
+    assertThat(records.count()).isEqualTo(4);
+    for (ConsumerRecord<String, String> record : records) {
+      testing.runWithSpan("process " + record.value(), () -> {});
+    }
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName(TOPIC + " process")
+                        .hasKind(SpanKind.CONSUMER)
+                        .hasNoParent()
+                        .hasLinks(
+                            LinkData.create(FIRST_UPSTREAM), LinkData.create(SECOND_UPSTREAM)),
+                span -> span.hasName("process value0").hasParent(trace.getSpan(0)),
+                span -> span.hasName("process value1").hasParent(trace.getSpan(0)),
+                span -> span.hasName("process value2").hasParent(trace.getSpan(0)),
+                span -> span.hasName("process value3").hasParent(trace.getSpan(0))));
+  }
+
+  @Test
+  void doesNotTraceBatchThatIsNotIterated() {
+    KafkaTelemetry telemetry =
+        KafkaTelemetry.builder(testing.getOpenTelemetry()).setBatchProcessEnabled(true).build();
+
+    MockConsumer<String, String> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    mockConsumer.assign(singletonList(PARTITION));
+    mockConsumer.updateBeginningOffsets(singletonMap(PARTITION, 0L));
+    mockConsumer.addRecord(record(0, FIRST_UPSTREAM));
+
+    Consumer<String, String> wrappedConsumer = telemetry.wrap(mockConsumer);
+    assertThat(wrappedConsumer.poll(Duration.ZERO).count()).isEqualTo(1);
+    assertThat(wrappedConsumer.poll(Duration.ZERO).count()).isEqualTo(0);
+    testing.runWithSpan("after poll", () -> {});
+
+    testing.waitAndAssertTraces(
+        trace -> trace.hasSpansSatisfyingExactly(span -> span.hasName("after poll").hasNoParent()));
+  }
+
+  private static ConsumerRecord<String, String> record(long offset, SpanContext upstream) {
+    ConsumerRecord<String, String> record =
+        new ConsumerRecord<>(TOPIC, 0, offset, null, "value" + offset);
+    String traceparent =
+        "00-"
+            + upstream.getTraceId()
+            + "-"
+            + upstream.getSpanId()
+            + "-"
+            + upstream.getTraceFlags().asHex();
+    record.headers().add("traceparent", traceparent.getBytes(StandardCharsets.UTF_8));
+    return record;
+  }
+
+  private static SpanContext remoteSpanContext(String traceId, String spanId, boolean sampled) {
+    return SpanContext.createFromRemoteParent(
+        traceId,
+        spanId,
+        sampled ? TraceFlags.getSampled() : TraceFlags.getDefault(),
+        TraceState.getDefault());
+  }
+}
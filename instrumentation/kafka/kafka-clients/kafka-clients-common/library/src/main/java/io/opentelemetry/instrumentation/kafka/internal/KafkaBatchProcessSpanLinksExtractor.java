@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.kafka.internal;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
@@ -14,16 +16,32 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 
 final class KafkaBatchProcessSpanLinksExtractor implements SpanLinksExtractor<KafkaReceiveRequest> {
 
+  private final TextMapPropagator propagator;
   private final SpanLinksExtractor<KafkaProcessRequest> singleRecordLinkExtractor;
+  private final boolean sampledOnly;
 
   KafkaBatchProcessSpanLinksExtractor(TextMapPropagator propagator) {
+    this(propagator, false);
+  }
+
+  /**
+   * When {@code sampledOnly} is set, only the upstream span contexts that were sampled are linked,
+   * and consecutive records carrying the same upstream span context produce a single link.
+   */
+  KafkaBatchProcessSpanLinksExtractor(TextMapPropagator propagator, boolean sampledOnly) {
+    this.propagator = propagator;
     this.singleRecordLinkExtractor =
         new PropagatorBasedSpanLinksExtractor<>(propagator, KafkaConsumerRecordGetter.INSTANCE);
+    this.sampledOnly = sampledOnly;
   }
 
   @Override
   public void extract(
       SpanLinksBuilder spanLinks, Context parentContext, KafkaReceiveRequest request) {
+    if (sampledOnly) {
+      extractSampled(spanLinks, request);
+      return;
+    }
 
     for (ConsumerRecord<?, ?> record : request.getRecords()) {
       // explicitly passing root to avoid situation where context propagation is turned off and the
@@ -34,4 +52,23 @@ final class KafkaBatchProcessSpanLinksExtractor implements SpanLinksExtractor<Ka
           KafkaProcessRequest.create(record, request.getConsumerGroup(), request.getClientId()));
     }
   }
+
+  private void extractSampled(SpanLinksBuilder spanLinks, KafkaReceiveRequest request) {
+    SpanContext previous = null;
+    for (ConsumerRecord<?, ?> record : request.getRecords()) {
+      Context extracted =
+          propagator.extract(
+              Context.root(),
+              KafkaProcessRequest.create(record, request.getConsumerGroup(), request.getClientId()),
+              KafkaConsumerRecordGetter.INSTANCE);
+      SpanContext spanContext = Span.fromContext(extracted).getSpanContext();
+      // records produced in the same upstream operation usually arrive next to each other, linking
+      // them once is enough
+      if (!spanContext.isValid() || !spanContext.isSampled() || spanContext.equals(previous)) {
+        continue;
+      }
+      spanLinks.addLink(spanContext);
+      previous = spanContext;
+    }
+  }
 }
@@ -157,6 +157,16 @@ public final class KafkaInstrumenterFactory {
   }
 
   public Instrumenter<KafkaReceiveRequest, Void> createBatchProcessInstrumenter() {
+    return createBatchProcessInstrumenter(Collections.emptyList(), false);
+  }
+
+  /**
+   * Creates an instrumenter that creates a single process span for a whole batch of records. When
+   * {@code sampledLinksOnly} is set, the span is only linked to the sampled upstream span contexts.
+   */
+  public Instrumenter<KafkaReceiveRequest, Void> createBatchProcessInstrumenter(
+      Iterable<AttributesExtractor<KafkaReceiveRequest, Void>> extractors,
+      boolean sampledLinksOnly) {
     KafkaReceiveAttributesGetter getter = KafkaReceiveAttributesGetter.INSTANCE;
     MessageOperation operation = MessageOperation.PROCESS;
 
@@ -167,9 +177,10 @@ public final class KafkaInstrumenterFactory {
         .addAttributesExtractor(
             buildMessagingAttributesExtractor(getter, operation, capturedHeaders))
         .addAttributesExtractor(KafkaReceiveAttributesExtractor.INSTANCE)
+        .addAttributesExtractors(extractors)
         .addSpanLinksExtractor(
             new KafkaBatchProcessSpanLinksExtractor(
-                openTelemetry.getPropagators().getTextMapPropagator()))
+                openTelemetry.getPropagators().getTextMapPropagator(), sampledLinksOnly))
         .setErrorCauseExtractor(errorCauseExtractor)
         .buildInstrumenter(SpanKindExtractor.alwaysConsumer());
   }
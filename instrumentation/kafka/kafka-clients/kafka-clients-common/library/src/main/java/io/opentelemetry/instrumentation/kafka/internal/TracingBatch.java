@@ -0,0 +1,119 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import java.util.Iterator;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+
+/**
+ * Traces the processing of all the records returned by a single {@code poll()} with one process
+ * span. The span is started when the first record is taken from any of the wrapped iterators, and
+ * ended once all the records of the batch were iterated over, or when {@link #end()} is called.
+ * Starting the span lazily means that the span links of a batch that is never traversed are not
+ * extracted at all.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class TracingBatch {
+
+  private final Instrumenter<KafkaReceiveRequest, Void> instrumenter;
+  private final KafkaConsumerContext consumerContext;
+  private final ConsumerRecords<?, ?> records;
+  private final int recordCount;
+
+  /*
+   * Note: same as TracingIterator, this may potentially create problems if the records are iterated
+   * over from different threads.
+   */
+  private int processedCount;
+  private boolean started;
+  @Nullable private KafkaReceiveRequest request;
+  @Nullable private Context context;
+  @Nullable private Scope scope;
+
+  private TracingBatch(
+      Instrumenter<KafkaReceiveRequest, Void> instrumenter,
+      KafkaConsumerContext consumerContext,
+      ConsumerRecords<?, ?> records) {
+    this.instrumenter = instrumenter;
+    this.consumerContext = consumerContext;
+    this.records = records;
+    this.recordCount = records.count();
+  }
+
+  public static TracingBatch create(
+      Instrumenter<KafkaReceiveRequest, Void> instrumenter,
+      KafkaConsumerContext consumerContext,
+      ConsumerRecords<?, ?> records) {
+    return new TracingBatch(instrumenter, consumerContext, records);
+  }
+
+  <K, V> Iterator<ConsumerRecord<K, V>> wrap(Iterator<ConsumerRecord<K, V>> delegate) {
+    return new Iterator<ConsumerRecord<K, V>>() {
+      @Override
+      public boolean hasNext() {
+        boolean hasNext = delegate.hasNext();
+        if (processedCount >= recordCount) {
+          // the last record of the batch was processed
+          end();
+        }
+        return hasNext;
+      }
+
+      @Override
+      public ConsumerRecord<K, V> next() {
+        ConsumerRecord<K, V> next = delegate.next();
+        if (next != null) {
+          startIfNeeded();
+          processedCount++;
+        }
+        return next;
+      }
+
+      @Override
+      public void remove() {
+        delegate.remove();
+      }
+    };
+  }
+
+  private void startIfNeeded() {
+    if (started) {
+      return;
+    }
+    started = true;
+
+    Context receiveContext = consumerContext.getContext();
+    // use the receive CONSUMER as parent if it's available
+    Context parentContext = receiveContext != null ? receiveContext : Context.current();
+    KafkaReceiveRequest request = KafkaReceiveRequest.create(consumerContext, records);
+    if (!instrumenter.shouldStart(parentContext, request)) {
+      return;
+    }
+    this.request = request;
+    context = instrumenter.start(parentContext, request);
+    scope = context.makeCurrent();
+  }
+
+  /** Ends the batch process span, if it was started and is not ended yet. */
+  public void end() {
+    if (scope != null) {
+      scope.close();
+      instrumenter.end(context, request, null, null);
+      scope = null;
+      request = null;
+      context = null;
+    }
+    // a batch that was never traversed must not start its span afterwards
+    started = true;
+  }
+}
@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.kafka.internal;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.util.Iterator;
 import java.util.function.BooleanSupplier;
+import java.util.function.UnaryOperator;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
 /**
@@ -16,9 +17,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
  */
 public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
   private final Iterable<ConsumerRecord<K, V>> delegate;
-  private final Instrumenter<KafkaProcessRequest, Void> instrumenter;
-  private final BooleanSupplier wrappingEnabled;
-  private final KafkaConsumerContext consumerContext;
+  private final UnaryOperator<Iterator<ConsumerRecord<K, V>>> iteratorWrapper;
   private boolean firstIterator = true;
 
   protected TracingIterable(
@@ -26,10 +25,20 @@ public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
       Instrumenter<KafkaProcessRequest, Void> instrumenter,
       BooleanSupplier wrappingEnabled,
       KafkaConsumerContext consumerContext) {
+    this(
+        delegate,
+        iterator -> TracingIterator.wrap(iterator, instrumenter, wrappingEnabled, consumerContext));
+  }
+
+  protected TracingIterable(Iterable<ConsumerRecord<K, V>> delegate, TracingBatch batch) {
+    this(delegate, batch::wrap);
+  }
+
+  private TracingIterable(
+      Iterable<ConsumerRecord<K, V>> delegate,
+      UnaryOperator<Iterator<ConsumerRecord<K, V>>> iteratorWrapper) {
     this.delegate = delegate;
-    this.instrumenter = instrumenter;
-    this.wrappingEnabled = wrappingEnabled;
-    this.consumerContext = consumerContext;
+    this.iteratorWrapper = iteratorWrapper;
   }
 
   public static <K, V> Iterable<ConsumerRecord<K, V>> wrap(
@@ -50,8 +59,7 @@ public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
     // However, this is not thread-safe, but usually the first (hopefully only) traversal of
     // ConsumerRecords is performed in the same thread that called poll()
     if (firstIterator) {
-      it =
-          TracingIterator.wrap(delegate.iterator(), instrumenter, wrappingEnabled, consumerContext);
+      it = iteratorWrapper.apply(delegate.iterator());
       firstIterator = false;
     } else {
       it = delegate.iterator();
@@ -39,6 +39,20 @@ public class TracingList<K, V> extends TracingIterable<K, V> implements List<Con
     return delegate;
   }
 
+  /**
+   * Returns a list whose traversal is traced by the given batch process span instead of a process
+   * span per record.
+   */
+  public static <K, V> List<ConsumerRecord<K, V>> wrap(
+      List<ConsumerRecord<K, V>> delegate, TracingBatch batch) {
+    return new TracingList<>(delegate, batch);
+  }
+
+  private TracingList(List<ConsumerRecord<K, V>> delegate, TracingBatch batch) {
+    super(delegate, batch);
+    this.delegate = delegate;
+  }
+
   @Override
   public int size() {
     return delegate.size();
@@ -0,0 +1,112 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.log4j.appender.v2_17.internal;
+
+import io.opentelemetry.api.logs.LogRecordBuilder;
+import io.opentelemetry.api.logs.LoggerProvider;
+import io.opentelemetry.context.Context;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures how many events per second are mapped, depending on the captured context data. */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+public class LogEventMapperBenchmark {
+
+  // number of distinct context data keys across all the events
+  @Param({"10", "300"})
+  public int contextDataKeyCount;
+
+  // number of context data entries of an event
+  @Param({"5"})
+  public int contextDataEntryCount;
+
+  private final LoggerProvider loggerProvider = LoggerProvider.noop();
+  private final Message message = new SimpleMessage("message");
+  private LogEventMapper<Map<String, String>> configuredMapper;
+  private LogEventMapper<Map<String, String>> allMapper;
+  private List<Map<String, String>> contextData;
+  private int nextEvent;
+
+  @Setup
+  public void setup() {
+    List<String> keys = new ArrayList<>(contextDataKeyCount);
+    for (int i = 0; i < contextDataKeyCount; i++) {
+      keys.add("context.key." + i);
+    }
+    configuredMapper = new LogEventMapper<>(MapAccessor.INSTANCE, false, false, false, keys);
+    allMapper =
+        new LogEventMapper<>(
+            MapAccessor.INSTANCE, false, false, false, Collections.singletonList("*"));
+
+    contextData = new ArrayList<>(contextDataKeyCount);
+    for (int i = 0; i < contextDataKeyCount; i++) {
+      Map<String, String> data = new HashMap<>();
+      for (int j = 0; j < contextDataEntryCount; j++) {
+        data.put(keys.get((i + j) % contextDataKeyCount), "value");
+      }
+      contextData.add(data);
+    }
+  }
+
+  @Benchmark
+  public void captureConfiguredContextData() {
+    emit(configuredMapper);
+  }
+
+  @Benchmark
+  public void captureAllContextData() {
+    emit(allMapper);
+  }
+
+  private void emit(LogEventMapper<Map<String, String>> mapper) {
+    // cycle through the events so that all the context data keys are seen
+    Map<String, String> data = contextData.get(nextEvent);
+    nextEvent = (nextEvent + 1) % contextData.size();
+    LogRecordBuilder builder = loggerProvider.loggerBuilder("benchmark").build().logRecordBuilder();
+    mapper.mapLogEvent(builder, message, Level.INFO, null, null, data, "main", 1, Context.root());
+    builder.emit();
+  }
+
+  private enum MapAccessor implements ContextDataAccessor<Map<String, String>> {
+    INSTANCE;
+
+    @Override
+    @Nullable
+    public String getValue(Map<String, String> contextData, String key) {
+      return contextData.get(key);
+    }
+
+    @Override
+    public void forEach(Map<String, String> contextData, BiConsumer<String, String> action) {
+      contextData.forEach(action);
+    }
+  }
+}
@@ -11,10 +11,11 @@ import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.logs.LogRecordBuilder;
 import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.context.Context;
-import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.instrumentation.api.internal.AttributeKeyInterner;
 import io.opentelemetry.semconv.ExceptionAttributes;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Collections;
 import java.util.List;
 import javax.annotation.Nullable;
 import org.apache.logging.log4j.Level;
@@ -35,10 +36,10 @@ public final class LogEventMapper<T> {
 
   private static final String SPECIAL_MAP_MESSAGE_ATTRIBUTE = "message";
 
-  private static final Cache<String, AttributeKey<String>> contextDataAttributeKeyCache =
-      Cache.bounded(100);
-  private static final Cache<String, AttributeKey<String>> mapMessageAttributeKeyCache =
-      Cache.bounded(100);
+  private static final AttributeKeyInterner contextDataAttributeKeys =
+      AttributeKeyInterner.stringKeys();
+  private static final AttributeKeyInterner mapMessageAttributeKeys =
+      AttributeKeyInterner.withPrefix("log4j.map_message.");
 
   private static final AttributeKey<String> LOG_MARKER = AttributeKey.stringKey("log4j.marker");
 
@@ -48,6 +49,8 @@ public final class LogEventMapper<T> {
   private final boolean captureMapMessageAttributes;
   private final boolean captureMarkerAttribute;
   private final List<String> captureContextDataAttributes;
+  // resolved once so that capturing the configured context data does not look up the keys
+  private final List<AttributeKey<String>> captureContextDataAttributeKeys;
   private final boolean captureAllContextDataAttributes;
 
   public LogEventMapper(
@@ -64,6 +67,10 @@ public final class LogEventMapper<T> {
     this.captureContextDataAttributes = captureContextDataAttributes;
     this.captureAllContextDataAttributes =
         captureContextDataAttributes.size() == 1 && captureContextDataAttributes.get(0).equals("*");
+    this.captureContextDataAttributeKeys =
+        captureAllContextDataAttributes
+            ? Collections.emptyList()
+            : contextDataAttributeKeys.getAll(captureContextDataAttributes);
   }
 
   /**
@@ -171,21 +178,20 @@ public final class LogEventMapper<T> {
       return;
     }
 
-    for (String key : captureContextDataAttributes) {
-      String value = contextDataAccessor.getValue(contextData, key);
+    for (int i = 0; i < captureContextDataAttributes.size(); i++) {
+      String value = contextDataAccessor.getValue(contextData, captureContextDataAttributes.get(i));
       if (value != null) {
-        attributes.put(getContextDataAttributeKey(key), value);
+        attributes.put(captureContextDataAttributeKeys.get(i), value);
       }
     }
   }
 
   public static AttributeKey<String> getContextDataAttributeKey(String key) {
-    return contextDataAttributeKeyCache.computeIfAbsent(key, AttributeKey::stringKey);
+    return contextDataAttributeKeys.get(key);
   }
 
   public static AttributeKey<String> getMapMessageAttributeKey(String key) {
-    return mapMessageAttributeKeyCache.computeIfAbsent(
-        key, k -> AttributeKey.stringKey("log4j.map_message." + k));
+    return mapMessageAttributeKeys.get(key);
   }
 
   private static void setThrowable(AttributesBuilder attributes, Throwable throwable) {
@@ -16,11 +16,18 @@ import io.opentelemetry.javaagent.bootstrap.internal.ConfiguredResourceAttribute
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.core.util.ContextDataProvider;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
 
 /**
  * Implementation of Log4j 2's {@link ContextDataProvider} which is loaded via SPI. {@link
- * #supplyContextData()} is called when a log entry is created.
+ * #supplyContextData()} or {@link #supplyStringMap()} is called when a log entry is created.
+ *
+ * <p>When Log4j 2 runs in garbage-free mode (thread locals are enabled), {@link
+ * #supplyStringMap()} writes the context data into a map that is reused by each thread, Log4j 2
+ * copies it into the log event right away.
  */
 public class OpenTelemetryContextDataProvider implements ContextDataProvider {
   private static final boolean BAGGAGE_ENABLED =
@@ -28,6 +35,11 @@ public class OpenTelemetryContextDataProvider implements ContextDataProvider {
   private static final boolean configuredResourceAttributeAccessible =
       isConfiguredResourceAttributeAccessible();
   private static final Map<String, String> staticContextData = getStaticContextData();
+  private static final StringMap staticStringMap = toStringMap(staticContextData);
+
+  private static final boolean GARBAGE_FREE = Constants.ENABLE_THREADLOCALS;
+  private static final ThreadLocal<StringMap> reusableContextData =
+      ThreadLocal.withInitial(SortedArrayStringMap::new);
 
   private static Map<String, String> getStaticContextData() {
     if (configuredResourceAttributeAccessible) {
@@ -36,6 +48,12 @@ public class OpenTelemetryContextDataProvider implements ContextDataProvider {
     return Collections.emptyMap();
   }
 
+  private static StringMap toStringMap(Map<String, String> map) {
+    StringMap stringMap = new SortedArrayStringMap(map);
+    stringMap.freeze();
+    return stringMap;
+  }
+
   /**
    * Checks whether {@link ConfiguredResourceAttributesHolder} is available in classpath. The result
    * is true if {@link ConfiguredResourceAttributesHolder} can be loaded, false otherwise.
@@ -83,4 +101,41 @@ public class OpenTelemetryContextDataProvider implements ContextDataProvider {
 
     return contextData;
   }
+
+  /**
+   * Returns the same context data as {@link #supplyContextData()}. In garbage-free mode the
+   * returned map is reused by the next log entry of the current thread.
+   */
+  @Override
+  public StringMap supplyStringMap() {
+    if (!GARBAGE_FREE) {
+      return ContextDataProvider.super.supplyStringMap();
+    }
+
+    StringMap contextData = reusableContextData.get();
+    contextData.clear();
+    contextData.putAll(staticStringMap);
+
+    Context context = Context.current();
+    SpanContext spanContext = Span.fromContext(context).getSpanContext();
+    if (!spanContext.isValid()) {
+      return contextData;
+    }
+
+    // the ids are kept as hex strings by the span context, and the trace flags hex strings are
+    // cached, so none of these allocate
+    contextData.putValue(ContextDataKeys.TRACE_ID_KEY, spanContext.getTraceId());
+    contextData.putValue(ContextDataKeys.SPAN_ID_KEY, spanContext.getSpanId());
+    contextData.putValue(ContextDataKeys.TRACE_FLAGS_KEY, spanContext.getTraceFlags().asHex());
+
+    if (BAGGAGE_ENABLED) {
+      Baggage.fromContext(context)
+          .forEach(
+              (key, entry) ->
+                  // prefix all baggage values to avoid clashes with existing context
+                  contextData.putValue("baggage." + key, entry.getValue()));
+    }
+
+    return contextData;
+  }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.log4j.contextdata.v2_17;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.jupiter.api.Test;
+
+class OpenTelemetryContextDataProviderTest {
+
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "ff01020304050600ff0a0b0c0d0e0f00",
+          "090a0b0c0d0e0f00",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  private final OpenTelemetryContextDataProvider provider = new OpenTelemetryContextDataProvider();
+
+  @Test
+  void supplyStringMap() {
+    StringMap contextData;
+    try (Scope ignored = Span.wrap(SPAN_CONTEXT).makeCurrent()) {
+      contextData = provider.supplyStringMap();
+      assertThat(contextData.toMap())
+          .containsEntry("trace_id", SPAN_CONTEXT.getTraceId())
+          .containsEntry("span_id", SPAN_CONTEXT.getSpanId())
+          .containsEntry("trace_flags", "01");
+    }
+
+    StringMap noSpanContextData = provider.supplyStringMap();
+    assertThat(noSpanContextData.containsKey("trace_id")).isFalse();
+    if (Constants.ENABLE_THREADLOCALS) {
+      // garbage-free mode, the map is reused by the next log entry of the thread
+      assertThat(noSpanContextData).isSameAs(contextData);
+    }
+  }
+}
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.logging.log4j.core.ContextDataInjector;
 import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.util.ReadOnlyStringMap;
 import org.apache.logging.log4j.util.SortedArrayStringMap;
 import org.apache.logging.log4j.util.StringMap;
@@ -31,6 +32,10 @@ public final class SpanDecoratingContextDataInjector implements ContextDataInjec
 
   private static final StringMap staticContextData = getStaticContextData();
 
+  // in garbage-free mode the context data is written into the map of the log event instead of a
+  // copy of it, see writableContextData()
+  private static final boolean GARBAGE_FREE = Constants.ENABLE_THREADLOCALS;
+
   private final ContextDataInjector delegate;
 
   public SpanDecoratingContextDataInjector(ContextDataInjector delegate) {
@@ -43,17 +48,17 @@ public final class SpanDecoratingContextDataInjector implements ContextDataInjec
 
     if (contextData.containsKey(TRACE_ID_KEY)) {
       // Assume already instrumented event if traceId is present.
-      return staticContextData.isEmpty() ? contextData : newContextData(contextData);
+      return staticContextData.isEmpty() ? contextData : newContextData(contextData, stringMap);
     }
 
     Context context = Context.current();
     Span span = Span.fromContext(context);
     SpanContext currentContext = span.getSpanContext();
     if (!currentContext.isValid()) {
-      return staticContextData.isEmpty() ? contextData : newContextData(contextData);
+      return staticContextData.isEmpty() ? contextData : newContextData(contextData, stringMap);
     }
 
-    StringMap newContextData = newContextData(contextData);
+    StringMap newContextData = newContextData(contextData, stringMap);
     newContextData.putValue(TRACE_ID_KEY, currentContext.getTraceId());
     newContextData.putValue(SPAN_ID_KEY, currentContext.getSpanId());
     newContextData.putValue(TRACE_FLAGS_KEY, currentContext.getTraceFlags().asHex());
@@ -73,12 +78,29 @@ public final class SpanDecoratingContextDataInjector implements ContextDataInjec
     return delegate.rawContextData();
   }
 
-  private static StringMap newContextData(StringMap contextData) {
-    StringMap newContextData = new SortedArrayStringMap(contextData);
+  private static StringMap newContextData(StringMap contextData, StringMap reusable) {
+    StringMap newContextData = writableContextData(contextData, reusable);
     newContextData.putAll(staticContextData);
     return newContextData;
   }
 
+  private static StringMap writableContextData(StringMap contextData, StringMap reusable) {
+    if (GARBAGE_FREE) {
+      // only the reusable map is owned by the log event, e.g. the garbage free thread context
+      // injector returns the reusable map that it was given
+      if (contextData == reusable && !contextData.isFrozen()) {
+        return contextData;
+      }
+      // any other map may be shared, copy it into the reusable map of the log event
+      if (reusable != null && reusable != contextData && !reusable.isFrozen()) {
+        reusable.clear();
+        reusable.putAll(contextData);
+        return reusable;
+      }
+    }
+    return new SortedArrayStringMap(contextData);
+  }
+
   private static StringMap getStaticContextData() {
     StringMap map = new SortedArrayStringMap();
     for (Map.Entry<String, String> entry :
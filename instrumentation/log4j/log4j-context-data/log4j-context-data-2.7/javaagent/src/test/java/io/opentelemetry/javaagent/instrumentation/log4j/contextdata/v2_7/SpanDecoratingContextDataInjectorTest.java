@@ -0,0 +1,75 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.log4j.contextdata.v2_7;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import org.apache.logging.log4j.core.ContextDataInjector;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SpanDecoratingContextDataInjectorTest {
+
+  @BeforeAll
+  static void setUp() {
+    // the reusable map of the log event is only written to in garbage-free mode
+    assumeTrue(Constants.ENABLE_THREADLOCALS);
+  }
+
+  @Test
+  void writesIntoReusableMap() {
+    StringMap reusable = new SortedArrayStringMap();
+    SpanDecoratingContextDataInjector injector =
+        new SpanDecoratingContextDataInjector(new TestInjector(null));
+
+    StringMap contextData = injector.injectContextData(null, reusable);
+
+    assertThat(contextData).isSameAs(reusable);
+    assertThat(contextData.<String>getValue("service.name")).isEqualTo("unknown_service:java");
+  }
+
+  @Test
+  void copiesSharedMapIntoReusableMap() {
+    StringMap shared = new SortedArrayStringMap();
+    shared.putValue("key", "value");
+    StringMap reusable = new SortedArrayStringMap();
+    SpanDecoratingContextDataInjector injector =
+        new SpanDecoratingContextDataInjector(new TestInjector(shared));
+
+    StringMap contextData = injector.injectContextData(null, reusable);
+
+    assertThat(contextData).isSameAs(reusable);
+    assertThat(contextData.<String>getValue("key")).isEqualTo("value");
+    assertThat(contextData.<String>getValue("service.name")).isEqualTo("unknown_service:java");
+    // the map returned by the delegate is not modified
+    assertThat(shared.size()).isEqualTo(1);
+  }
+
+  private static class TestInjector implements ContextDataInjector {
+    private final StringMap contextData;
+
+    TestInjector(StringMap contextData) {
+      this.contextData = contextData;
+    }
+
+    @Override
+    public StringMap injectContextData(List<Property> properties, StringMap reusable) {
+      return contextData != null ? contextData : reusable;
+    }
+
+    @Override
+    public ReadOnlyStringMap rawContextData() {
+      return contextData;
+    }
+  }
+}
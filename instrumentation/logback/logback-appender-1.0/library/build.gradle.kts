@@ -1,5 +1,6 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
   id("org.graalvm.buildtools.native")
 }
 
@@ -36,6 +37,17 @@ dependencies {
   }
 
   testImplementation("io.opentelemetry:opentelemetry-sdk-testing")
+
+  jmhImplementation("ch.qos.logback:logback-classic") {
+    version {
+      strictly("1.3.0")
+    }
+  }
+  jmhImplementation("org.slf4j:slf4j-api") {
+    version {
+      strictly("2.0.0")
+    }
+  }
 }
 
 graalvmNative {
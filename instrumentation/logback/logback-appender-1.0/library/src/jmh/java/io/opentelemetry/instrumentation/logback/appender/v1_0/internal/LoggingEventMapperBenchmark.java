@@ -0,0 +1,95 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.appender.v1_0.internal;
+
+import static java.util.Collections.singletonList;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.opentelemetry.api.logs.LoggerProvider;
+import io.opentelemetry.context.Context;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures how many events per second are mapped, depending on the captured MDC attributes. */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+public class LoggingEventMapperBenchmark {
+
+  // number of distinct MDC keys across all the events
+  @Param({"10", "300"})
+  public int mdcKeyCount;
+
+  // number of MDC entries of an event
+  @Param({"5"})
+  public int mdcEntryCount;
+
+  private final LoggerProvider loggerProvider = LoggerProvider.noop();
+  private LoggingEventMapper configuredMapper;
+  private LoggingEventMapper allMapper;
+  private LoggingEvent[] events;
+  private int nextEvent;
+
+  @Setup
+  public void setup() {
+    List<String> keys = new ArrayList<>(mdcKeyCount);
+    for (int i = 0; i < mdcKeyCount; i++) {
+      keys.add("mdc.key." + i);
+    }
+    configuredMapper = LoggingEventMapper.builder().setCaptureMdcAttributes(keys).build();
+    allMapper = LoggingEventMapper.builder().setCaptureMdcAttributes(singletonList("*")).build();
+
+    events = new LoggingEvent[mdcKeyCount];
+    for (int i = 0; i < events.length; i++) {
+      Map<String, String> mdc = new HashMap<>();
+      for (int j = 0; j < mdcEntryCount; j++) {
+        mdc.put(keys.get((i + j) % mdcKeyCount), "value");
+      }
+      LoggingEvent event = new LoggingEvent();
+      event.setLoggerName("benchmark");
+      event.setLevel(Level.INFO);
+      event.setMessage("message");
+      event.setTimeStamp(System.currentTimeMillis());
+      event.setMDCPropertyMap(mdc);
+      events[i] = event;
+    }
+  }
+
+  @Benchmark
+  public void captureConfiguredMdcAttributes() {
+    emit(configuredMapper);
+  }
+
+  @Benchmark
+  public void captureAllMdcAttributes() {
+    emit(allMapper);
+  }
+
+  private void emit(LoggingEventMapper mapper) {
+    // cycle through the events so that all the MDC keys are seen
+    LoggingEvent event = events[nextEvent];
+    nextEvent = (nextEvent + 1) % events.length;
+    mapper.emit(loggerProvider, event, -1, Context.root());
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.appender.v1_0;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.spi.ContextAware;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.GuardedBy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Hands the logging events over to a dedicated thread that maps and emits them in batches, so that
+ * the logging threads only pay for capturing the parts of the event that can change after {@code
+ * append()} returns.
+ */
+final class AsyncEmitter {
+
+  private static final AttributeKey<String> APPENDER_NAME = stringKey("appender.name");
+
+  // how long the consumer sleeps when there is nothing to emit, it is woken up before that when
+  // events are added
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  // how long a blocked producer waits before checking again whether the queue has room
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+  private final RingBuffer<PendingEvent> queue;
+  private final int batchSize;
+  private final boolean blockWhenFull;
+  private final BiConsumer<ILoggingEvent, Context> emitter;
+  // reports errors to the logback status manager
+  private final ContextAware status;
+  private final Thread thread;
+  private final LongAdder dropped = new LongAdder();
+  @GuardedBy("this")
+  private final List<AutoCloseable> observables = new ArrayList<>();
+
+  private volatile boolean running = true;
+  private volatile boolean consumerParked;
+
+  AsyncEmitter(
+      String appenderName,
+      int queueSize,
+      int batchSize,
+      boolean blockWhenFull,
+      BiConsumer<ILoggingEvent, Context> emitter,
+      ContextAware status) {
+    this.queue = new RingBuffer<>(queueSize);
+    this.batchSize = batchSize;
+    this.blockWhenFull = blockWhenFull;
+    this.emitter = emitter;
+    this.status = status;
+    this.thread = new Thread(this::run, "otel-logback-appender-" + appenderName);
+    thread.setDaemon(true);
+    thread.setContextClassLoader(null);
+  }
+
+  void start() {
+    thread.start();
+  }
+
+  /**
+   * Enqueues the event, which must have been prepared for deferred processing. Returns {@code
+   * false} when the event was dropped.
+   */
+  boolean enqueue(ILoggingEvent event, Context context) {
+    PendingEvent pendingEvent = new PendingEvent(event, context);
+    while (!queue.offer(pendingEvent)) {
+      if (!blockWhenFull || !running || Thread.currentThread() == thread) {
+        dropped.increment();
+        return false;
+      }
+      LockSupport.unpark(thread);
+      LockSupport.parkNanos(this, FULL_PARK_NANOS);
+    }
+    if (consumerParked) {
+      LockSupport.unpark(thread);
+    }
+    return true;
+  }
+
+  /** Stops the consumer thread, after it emitted the events that are already enqueued. */
+  void stop() {
+    running = false;
+    LockSupport.unpark(thread);
+    try {
+      thread.join(STOP_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    closeMetrics();
+  }
+
+  /**
+   * Exports the queue size and the number of dropped events, replacing the metrics registered with
+   * a previous {@link OpenTelemetry} instance.
+   */
+  synchronized void registerMetrics(OpenTelemetry openTelemetry, String appenderName) {
+    closeMetrics();
+    Attributes attributes = Attributes.of(APPENDER_NAME, appenderName);
+    Meter meter = openTelemetry.getMeter("io.opentelemetry.logback-appender-1.0");
+    observables.add(
+        meter
+            .upDownCounterBuilder("otel.logback_appender.queue.size")
+            .setUnit("{log_record}")
+            .setDescription("Number of log records waiting to be emitted.")
+            .buildWithCallback(measurement -> measurement.record(queue.size(), attributes)));
+    observables.add(
+        meter
+            .upDownCounterBuilder("otel.logback_appender.queue.capacity")
+            .setUnit("{log_record}")
+            .setDescription("Maximum number of log records waiting to be emitted.")
+            .buildWithCallback(measurement -> measurement.record(queue.capacity(), attributes)));
+    observables.add(
+        meter
+            .counterBuilder("otel.logback_appender.dropped")
+            .setUnit("{log_record}")
+            .setDescription("Number of log records dropped because the queue was full.")
+            .buildWithCallback(measurement -> measurement.record(dropped.sum(), attributes)));
+  }
+
+  private synchronized void closeMetrics() {
+    for (AutoCloseable observable : observables) {
+      try {
+        observable.close();
+      } catch (Exception e) {
+        status.addWarn("Failed to close the queue metrics", e);
+      }
+    }
+    observables.clear();
+  }
+
+  // visible for testing
+  long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  private void run() {
+    while (true) {
+      int emitted = emitBatch();
+      if (emitted > 0) {
+        continue;
+      }
+      if (!running) {
+        // the queue was drained after the appender was stopped
+        return;
+      }
+      consumerParked = true;
+      // check again, an event may have been added before the producer saw the flag
+      if (queue.size() == 0 && running) {
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      }
+      consumerParked = false;
+    }
+  }
+
+  private int emitBatch() {
+    int emitted = 0;
+    while (emitted < batchSize) {
+      PendingEvent pendingEvent = queue.poll();
+      if (pendingEvent == null) {
+        break;
+      }
+      try {
+        emitter.accept(pendingEvent.event, pendingEvent.context);
+      } catch (Throwable t) {
+        status.addError("Failed to emit a log record", t);
+      }
+      emitted++;
+    }
+    return emitted;
+  }
+
+  private static final class PendingEvent {
+    private final ILoggingEvent event;
+    private final Context context;
+
+    private PendingEvent(ILoggingEvent event, Context context) {
+      this.event = event;
+      this.context = context;
+    }
+  }
+}
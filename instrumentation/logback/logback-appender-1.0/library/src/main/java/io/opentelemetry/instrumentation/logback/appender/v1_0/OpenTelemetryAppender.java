@@ -11,6 +11,7 @@ import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.UnsynchronizedAppenderBase;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.logback.appender.v1_0.internal.LoggingEventMapper;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,9 +36,15 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
   private boolean captureLoggerContext = false;
   private boolean captureArguments = true;
   private List<String> captureMdcAttributes = emptyList();
+  private boolean asyncEnabled = false;
+  private int asyncQueueSize = 8192;
+  private int asyncBatchSize = 512;
+  private boolean asyncBlockWhenFull = false;
 
   private volatile OpenTelemetry openTelemetry;
   private LoggingEventMapper mapper;
+  // null unless the async mode is enabled
+  private volatile AsyncEmitter asyncEmitter;
 
   private int numLogsCapturedBeforeOtelInstall = 1000;
   private BlockingQueue<LoggingEventToReplay> eventsToReplay =
@@ -83,9 +90,37 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
             .setCaptureArguments(captureArguments)
             .build();
     eventsToReplay = new ArrayBlockingQueue<>(numLogsCapturedBeforeOtelInstall);
+    if (asyncEnabled) {
+      AsyncEmitter asyncEmitter =
+          new AsyncEmitter(
+              String.valueOf(getName()),
+              asyncQueueSize,
+              asyncBatchSize,
+              asyncBlockWhenFull,
+              (event, context) ->
+                  mapper.emit(this.openTelemetry.getLogsBridge(), event, -1, context),
+              this);
+      asyncEmitter.start();
+      OpenTelemetry openTelemetry = this.openTelemetry;
+      if (openTelemetry != null) {
+        asyncEmitter.registerMetrics(openTelemetry, String.valueOf(getName()));
+      }
+      this.asyncEmitter = asyncEmitter;
+    }
     super.start();
   }
 
+  @Override
+  public void stop() {
+    super.stop();
+    AsyncEmitter asyncEmitter = this.asyncEmitter;
+    if (asyncEmitter != null) {
+      this.asyncEmitter = null;
+      // emits the events that are already enqueued
+      asyncEmitter.stop();
+    }
+  }
+
   @SuppressWarnings("SystemOut")
   @Override
   protected void append(ILoggingEvent event) {
@@ -184,6 +219,36 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
     }
   }
 
+  /**
+   * Sets whether the logs are emitted asynchronously. When enabled, the logging thread only
+   * captures the parts of the logging event that can change after it is logged (e.g. the formatted
+   * message and the MDC) and adds it to a bounded queue. The log records are mapped and emitted in
+   * batches by a dedicated thread. Disabled by default.
+   */
+  public void setAsyncEnabled(boolean asyncEnabled) {
+    this.asyncEnabled = asyncEnabled;
+  }
+
+  /** Sets the maximum number of logs waiting to be emitted in async mode. Defaults to 8192. */
+  public void setAsyncQueueSize(int asyncQueueSize) {
+    this.asyncQueueSize = asyncQueueSize;
+  }
+
+  /**
+   * Sets the maximum number of logs emitted by the async mode thread in one batch. Defaults to 512.
+   */
+  public void setAsyncBatchSize(int asyncBatchSize) {
+    this.asyncBatchSize = asyncBatchSize;
+  }
+
+  /**
+   * Sets whether the logging thread waits for room in the queue when it is full in async mode,
+   * instead of dropping the log. Disabled by default, so that logging never blocks.
+   */
+  public void setAsyncBlockWhenFull(boolean asyncBlockWhenFull) {
+    this.asyncBlockWhenFull = asyncBlockWhenFull;
+  }
+
   /**
    * Log telemetry is emitted after the initialization of the OpenTelemetry Logback appender with an
    * {@link OpenTelemetry} object. This setting allows you to modify the size of the cache used to
@@ -210,11 +275,25 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
     }
     // now emit
     for (LoggingEventToReplay eventToReplay : eventsToReplay) {
-      emit(openTelemetry, eventToReplay);
+      mapper.emit(openTelemetry.getLogsBridge(), eventToReplay, -1);
+    }
+    AsyncEmitter asyncEmitter = this.asyncEmitter;
+    if (asyncEmitter != null) {
+      asyncEmitter.registerMetrics(openTelemetry, String.valueOf(getName()));
     }
   }
 
   private void emit(OpenTelemetry openTelemetry, ILoggingEvent event) {
+    AsyncEmitter asyncEmitter = this.asyncEmitter;
+    if (asyncEmitter != null) {
+      // capture on the logging thread what the consumer thread could not read anymore
+      event.prepareForDeferredProcessing();
+      if (captureCodeAttributes) {
+        event.getCallerData();
+      }
+      asyncEmitter.enqueue(event, Context.current());
+      return;
+    }
     mapper.emit(openTelemetry.getLogsBridge(), event, -1);
   }
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.appender.v1_0;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded lock-free queue for many producers and a single consumer.
+ *
+ * <p>Every slot has a sequence number telling whether it can be written for a given position (it
+ * is equal to the position) or read (it is equal to the position plus one). Producers claim a
+ * position with a CAS on the tail, so that offering never blocks and fails fast when the queue is
+ * full.
+ */
+final class RingBuffer<T> {
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<T> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  // only written by the consumer, read by size()
+  private volatile long head;
+
+  RingBuffer(int minCapacity) {
+    int capacity = 1;
+    while (capacity < minCapacity) {
+      capacity <<= 1;
+    }
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+    this.elements = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /** Adds the element, returns {@code false} when the queue is full. */
+  boolean offer(T element) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        // the slot was not consumed yet since the previous round
+        return false;
+      } else {
+        // another producer claimed this position
+        position = tail.get();
+      }
+    }
+  }
+
+  /** Removes the oldest element, must only be called by the consumer. */
+  @Nullable
+  T poll() {
+    long position = head;
+    int index = (int) position & mask;
+    if (sequences.get(index) != position + 1) {
+      // empty, or the producer that claimed the position has not published its element yet
+      return null;
+    }
+    T element = elements.get(index);
+    elements.lazySet(index, null);
+    sequences.set(index, position + capacity);
+    head = position + 1;
+    return element;
+  }
+
+  int size() {
+    long size = tail.get() - head;
+    // the head can be read after the tail was, when elements are consumed in between
+    return (int) Math.max(0, Math.min(size, capacity));
+  }
+
+  int capacity() {
+    return capacity;
+  }
+}
@@ -18,7 +18,7 @@ import io.opentelemetry.api.logs.LogRecordBuilder;
 import io.opentelemetry.api.logs.LoggerProvider;
 import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.context.Context;
-import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.instrumentation.api.internal.AttributeKeyInterner;
 import io.opentelemetry.javaagent.tooling.muzzle.NoMuzzle;
 import io.opentelemetry.semconv.ExceptionAttributes;
 import java.io.PrintWriter;
@@ -50,8 +50,7 @@ public final class LoggingEventMapper {
   private static final boolean supportsInstant = supportsInstant();
   private static final boolean supportsKeyValuePairs = supportsKeyValuePairs();
   private static final boolean supportsMultipleMarkers = supportsMultipleMarkers();
-  private static final Cache<String, AttributeKey<String>> mdcAttributeKeys = Cache.bounded(100);
-  private static final Cache<String, AttributeKey<String>> attributeKeys = Cache.bounded(100);
+  private static final AttributeKeyInterner attributeKeys = AttributeKeyInterner.stringKeys();
 
   private static final AttributeKey<List<String>> LOG_MARKER =
       AttributeKey.stringArrayKey("logback.marker");
@@ -62,6 +61,8 @@ public final class LoggingEventMapper {
 
   private final boolean captureExperimentalAttributes;
   private final List<String> captureMdcAttributes;
+  // resolved once so that capturing the configured MDC attributes does not look up the keys
+  private final List<AttributeKey<String>> captureMdcAttributeKeys;
   private final boolean captureAllMdcAttributes;
   private final boolean captureCodeAttributes;
   private final boolean captureMarkerAttribute;
@@ -79,6 +80,8 @@ public final class LoggingEventMapper {
     this.captureArguments = builder.captureArguments;
     this.captureAllMdcAttributes =
         builder.captureMdcAttributes.size() == 1 && builder.captureMdcAttributes.get(0).equals("*");
+    this.captureMdcAttributeKeys =
+        captureAllMdcAttributes ? emptyList() : attributeKeys.getAll(builder.captureMdcAttributes);
   }
 
   public static Builder builder() {
@@ -86,13 +89,22 @@ public final class LoggingEventMapper {
   }
 
   public void emit(LoggerProvider loggerProvider, ILoggingEvent event, long threadId) {
+    emit(loggerProvider, event, threadId, Context.current());
+  }
+
+  /**
+   * Emits the event with the given {@link Context}, for events that are emitted on another thread
+   * than the one that logged them.
+   */
+  public void emit(
+      LoggerProvider loggerProvider, ILoggingEvent event, long threadId, Context context) {
     String instrumentationName = event.getLoggerName();
     if (instrumentationName == null || instrumentationName.isEmpty()) {
       instrumentationName = "ROOT";
     }
     LogRecordBuilder builder =
         loggerProvider.loggerBuilder(instrumentationName).build().logRecordBuilder();
-    mapLoggingEvent(builder, event, threadId);
+    mapLoggingEvent(builder, event, threadId, context);
     builder.emit();
   }
 
@@ -107,7 +119,7 @@ public final class LoggingEventMapper {
    * </ul>
    */
   private void mapLoggingEvent(
-      LogRecordBuilder builder, ILoggingEvent loggingEvent, long threadId) {
+      LogRecordBuilder builder, ILoggingEvent loggingEvent, long threadId, Context context) {
     // message
     String message = loggingEvent.getFormattedMessage();
     if (message != null) {
@@ -190,7 +202,7 @@ public final class LoggingEventMapper {
     builder.setAllAttributes(attributes.build());
 
     // span context
-    builder.setContext(Context.current());
+    builder.setContext(context);
   }
 
   // getInstant is available since Logback 1.3
@@ -224,10 +236,10 @@ public final class LoggingEventMapper {
       return;
     }
 
-    for (String key : captureMdcAttributes) {
-      String value = mdcProperties.get(key);
+    for (int i = 0; i < captureMdcAttributes.size(); i++) {
+      String value = mdcProperties.get(captureMdcAttributes.get(i));
       if (value != null) {
-        attributes.put(getMdcAttributeKey(key), value);
+        attributes.put(captureMdcAttributeKeys.get(i), value);
       }
     }
   }
@@ -240,7 +252,7 @@ public final class LoggingEventMapper {
   }
 
   public static AttributeKey<String> getMdcAttributeKey(String key) {
-    return mdcAttributeKeys.computeIfAbsent(key, AttributeKey::stringKey);
+    return attributeKeys.get(key);
   }
 
   private static void setThrowable(AttributesBuilder attributes, Throwable throwable) {
@@ -307,7 +319,7 @@ public final class LoggingEventMapper {
   }
 
   public static AttributeKey<String> getAttributeKey(String key) {
-    return attributeKeys.computeIfAbsent(key, AttributeKey::stringKey);
+    return attributeKeys.get(key);
   }
 
   private static boolean supportsKeyValuePairs() {
@@ -0,0 +1,102 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.appender.v1_0;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.MDC;
+
+class AsyncOpenTelemetryAppenderTest {
+
+  @RegisterExtension
+  private static final LibraryInstrumentationExtension testing =
+      LibraryInstrumentationExtension.create();
+
+  @Test
+  void emitsWithLoggingThreadData() {
+    LoggerContext loggerContext = new LoggerContext();
+    OpenTelemetryAppender appender = new OpenTelemetryAppender();
+    appender.setContext(loggerContext);
+    appender.setName("async");
+    appender.setAsyncEnabled(true);
+    appender.setCaptureMdcAttributes("key1");
+    appender.start();
+    appender.setOpenTelemetry(testing.getOpenTelemetry());
+    Logger logger = loggerContext.getLogger("AsyncLogger");
+    logger.addAppender(appender);
+
+    Span span =
+        testing.runWithSpan(
+            "span",
+            () -> {
+              MDC.put("key1", "val1");
+              try {
+                logger.info("log message {}", 1);
+              } finally {
+                MDC.clear();
+              }
+              return Span.current();
+            });
+    // emits the enqueued logs
+    appender.stop();
+
+    testing.waitAndAssertLogRecords(
+        logRecord ->
+            logRecord
+                .hasBody("log message 1")
+                .hasSpanContext(span.getSpanContext())
+                .hasAttributesSatisfyingExactly(equalTo(AttributeKey.stringKey("key1"), "val1")));
+  }
+
+  @Test
+  void dropsWhenQueueIsFull() throws InterruptedException {
+    CountDownLatch emitting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger emitted = new AtomicInteger();
+    AsyncEmitter asyncEmitter =
+        new AsyncEmitter(
+            "test",
+            2,
+            1,
+            false,
+            (event, context) -> {
+              emitting.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              emitted.incrementAndGet();
+            },
+            new ContextAwareBase());
+    asyncEmitter.start();
+
+    // the consumer thread takes the first event and blocks while emitting it
+    assertThat(asyncEmitter.enqueue(new LoggingEvent(), Context.root())).isTrue();
+    emitting.await();
+    for (int i = 0; i < 10; i++) {
+      asyncEmitter.enqueue(new LoggingEvent(), Context.root());
+    }
+    assertThat(asyncEmitter.getDroppedCount()).isEqualTo(8);
+
+    release.countDown();
+    asyncEmitter.stop();
+    assertThat(emitted.get()).isEqualTo(3);
+  }
+}
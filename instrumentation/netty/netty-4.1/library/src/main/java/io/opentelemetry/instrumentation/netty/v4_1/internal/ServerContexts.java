@@ -18,10 +18,14 @@ import java.util.Deque;
  */
 public final class ServerContexts {
   private static final int PIPELINING_LIMIT = 1000;
+  // Without http pipelining, which is the common case, a keep-alive connection has at most one
+  // request in flight and its context is kept in this slot.
+  private ServerContext serverContext;
   // With http pipelining multiple requests can be sent on the same connection. Responses should be
   // sent in the same order the requests came in. We use this deque to store the request context
-  // and pop elements as responses are sent.
-  private final Deque<ServerContext> serverContexts = new ArrayDeque<>();
+  // and pop elements as responses are sent. It is created when a request comes in before the
+  // response of the previous one was sent, and then used for the rest of the connection.
+  private Deque<ServerContext> serverContexts;
   private volatile boolean broken = false;
 
   private ServerContexts() {}
@@ -46,25 +50,45 @@ public final class ServerContexts {
   }
 
   public ServerContext peekFirst() {
-    return serverContexts.peekFirst();
+    return serverContexts != null ? serverContexts.peekFirst() : serverContext;
   }
 
   public ServerContext peekLast() {
-    return serverContexts.peekFirst();
+    return serverContexts != null ? serverContexts.peekFirst() : serverContext;
   }
 
   public ServerContext pollFirst() {
-    return serverContexts.pollFirst();
+    if (serverContexts != null) {
+      return serverContexts.pollFirst();
+    }
+    ServerContext result = serverContext;
+    serverContext = null;
+    return result;
   }
 
   public ServerContext pollLast() {
-    return serverContexts.pollLast();
+    if (serverContexts != null) {
+      return serverContexts.pollLast();
+    }
+    ServerContext result = serverContext;
+    serverContext = null;
+    return result;
   }
 
   public void addLast(ServerContext context) {
     if (broken) {
       return;
     }
+    if (serverContexts == null) {
+      if (serverContext == null) {
+        serverContext = context;
+        return;
+      }
+      // pipelined request
+      serverContexts = new ArrayDeque<>();
+      serverContexts.addLast(serverContext);
+      serverContext = null;
+    }
     // If the pipelining limit is exceeded we'll stop tracing and mark the channel as broken.
     // Exceeding the limit indicates that there is good chance that server context are not removed
     // from the deque and there could be a memory leak. This could happen when http server decides
@@ -24,6 +24,8 @@ import io.opentelemetry.instrumentation.netty.v4_1.internal.ServerContexts;
 public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapter {
 
   private final Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter;
+  // the handler is not sharable, this saves looking up the channel attribute on each read
+  private ServerContexts serverContexts;
 
   public HttpServerRequestTracingHandler(
       Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter) {
@@ -33,7 +35,11 @@ public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapte
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
     Channel channel = ctx.channel();
-    ServerContexts serverContexts = ServerContexts.getOrCreate(channel);
+    ServerContexts serverContexts = this.serverContexts;
+    if (serverContexts == null) {
+      serverContexts = ServerContexts.getOrCreate(channel);
+      this.serverContexts = serverContexts;
+    }
 
     if (!(msg instanceof HttpRequest)) {
       ServerContext serverContext = serverContexts.peekLast();
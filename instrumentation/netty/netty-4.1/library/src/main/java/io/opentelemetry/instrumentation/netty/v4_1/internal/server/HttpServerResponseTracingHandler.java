@@ -37,6 +37,8 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
   private final Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter;
   private final HttpServerResponseBeforeCommitHandler beforeCommitHandler;
   private final ProtocolEventHandler eventHandler;
+  // the handler is not sharable, this saves looking up the channel attribute on each write
+  private ServerContexts serverContexts;
 
   public HttpServerResponseTracingHandler(
       Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter,
@@ -49,7 +51,11 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
 
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise prm) throws Exception {
-    ServerContexts serverContexts = ServerContexts.get(ctx.channel());
+    ServerContexts serverContexts = this.serverContexts;
+    if (serverContexts == null) {
+      serverContexts = ServerContexts.get(ctx.channel());
+      this.serverContexts = serverContexts;
+    }
     ServerContext serverContext = serverContexts != null ? serverContexts.peekFirst() : null;
     if (serverContext == null) {
       super.write(ctx, msg, prm);
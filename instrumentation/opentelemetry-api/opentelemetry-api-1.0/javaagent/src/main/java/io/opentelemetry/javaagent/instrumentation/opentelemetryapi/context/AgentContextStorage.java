@@ -17,6 +17,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.util.function.Function;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link ContextStorage} which stores the {@link Context} in the user's application inside the
@@ -27,6 +28,10 @@ import java.util.logging.Logger;
  * application by storing the concrete application context in the agent context and returning a
  * wrapper which accesses into this stored concrete context.
  *
+ * <p>The agent context stores the wrapper of the application context, and the wrapper keeps the
+ * agent context it was attached as. Making an application context current again and reading the
+ * current application context back are then a field read, without allocating.
+ *
  * <p>This storage also makes sure that OpenTelemetry objects are shared within the context. To do
  * this, it recognizes the keys for OpenTelemetry objects (e.g, {@link Span}, {@link Baggage}) and
  * always stores and retrieves them from the agent context, even when accessed from the application.
@@ -125,6 +130,10 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
   }
 
   public static Context toApplicationContext(io.opentelemetry.context.Context agentContext) {
+    AgentContextWrapper wrapper = agentContext.get(APPLICATION_CONTEXT);
+    if (wrapper != null && wrapper.isAttachedAs(agentContext)) {
+      return wrapper;
+    }
     return new AgentContextWrapper(agentContext);
   }
 
@@ -136,45 +145,57 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
     return new AgentContextWrapper(agentContext, applicationContext);
   }
 
-  static final io.opentelemetry.context.ContextKey<Context> APPLICATION_CONTEXT =
+  static final io.opentelemetry.context.ContextKey<AgentContextWrapper> APPLICATION_CONTEXT =
       io.opentelemetry.context.ContextKey.named("otel-context");
 
+  @Nullable
+  static Context getApplicationContext(io.opentelemetry.context.Context agentContext) {
+    AgentContextWrapper wrapper = agentContext.get(APPLICATION_CONTEXT);
+    return wrapper != null ? wrapper.applicationContext : null;
+  }
+
   @Override
   public Scope attach(Context toAttach) {
     io.opentelemetry.context.Context currentAgentContext =
         io.opentelemetry.context.Context.current();
-    Context currentApplicationContext = currentAgentContext.get(APPLICATION_CONTEXT);
-    if (currentApplicationContext == null) {
-      currentApplicationContext = applicationRoot;
-    }
 
-    io.opentelemetry.context.Context newAgentContext;
+    AgentContextWrapper wrapper;
     if (toAttach instanceof AgentContextWrapper) {
-      AgentContextWrapper wrapper = (AgentContextWrapper) toAttach;
+      wrapper = (AgentContextWrapper) toAttach;
+      Context currentApplicationContext = getApplicationContext(currentAgentContext);
+      if (currentApplicationContext == null) {
+        currentApplicationContext = applicationRoot;
+      }
       if (currentApplicationContext == wrapper.applicationContext
           && currentAgentContext == wrapper.agentContext) {
         return Scope.noop();
       }
-      newAgentContext = wrapper.toAgentContext();
     } else {
-      newAgentContext = currentAgentContext.with(APPLICATION_CONTEXT, toAttach);
+      wrapper = new AgentContextWrapper(currentAgentContext, toAttach);
     }
 
+    io.opentelemetry.context.Context newAgentContext = wrapper.toAgentContext();
+    if (newAgentContext == currentAgentContext) {
+      return Scope.noop();
+    }
     return newAgentContext.makeCurrent()::close;
   }
 
   @Override
   public Context current() {
     io.opentelemetry.context.Context agentContext = io.opentelemetry.context.Context.current();
-    Context applicationContext = agentContext.get(APPLICATION_CONTEXT);
-    if (applicationContext == null) {
-      applicationContext = applicationRoot;
+    AgentContextWrapper wrapper = agentContext.get(APPLICATION_CONTEXT);
+    if (wrapper == null) {
+      if (agentContext == io.opentelemetry.context.Context.root()) {
+        return root;
+      }
+      return new AgentContextWrapper(agentContext, applicationRoot);
     }
-    if (applicationContext == applicationRoot
-        && agentContext == io.opentelemetry.context.Context.root()) {
-      return root;
+    // the agent context is still the one the application attached
+    if (wrapper.isAttachedAs(agentContext)) {
+      return wrapper;
     }
-    return new AgentContextWrapper(agentContext, applicationContext);
+    return new AgentContextWrapper(agentContext, wrapper.applicationContext);
   }
 
   @Override
@@ -13,6 +13,7 @@ import io.opentelemetry.javaagent.instrumentation.opentelemetryapi.trace.Bridgin
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nullable;
 
 final class AgentContextWrapper implements Context {
 
@@ -46,9 +47,13 @@ final class AgentContextWrapper implements Context {
 
   final io.opentelemetry.context.Context agentContext;
   final Context applicationContext;
+  // the agent context made current when this context is attached, which stores this wrapper so
+  // that the application gets it back without allocating; contexts are immutable, so computing it
+  // more than once when racing is harmless
+  @Nullable private io.opentelemetry.context.Context attachedAgentContext;
 
   AgentContextWrapper(io.opentelemetry.context.Context agentContext) {
-    this(agentContext, agentContext.get(AgentContextStorage.APPLICATION_CONTEXT));
+    this(agentContext, AgentContextStorage.getApplicationContext(agentContext));
   }
 
   AgentContextWrapper(io.opentelemetry.context.Context agentContext, Context applicationContext) {
@@ -60,10 +65,21 @@ final class AgentContextWrapper implements Context {
   }
 
   io.opentelemetry.context.Context toAgentContext() {
-    if (agentContext.get(AgentContextStorage.APPLICATION_CONTEXT) == applicationContext) {
-      return agentContext;
+    io.opentelemetry.context.Context result = attachedAgentContext;
+    if (result == null) {
+      if (agentContext.get(AgentContextStorage.APPLICATION_CONTEXT) == this) {
+        result = agentContext;
+      } else {
+        result = agentContext.with(AgentContextStorage.APPLICATION_CONTEXT, this);
+      }
+      attachedAgentContext = result;
     }
-    return agentContext.with(AgentContextStorage.APPLICATION_CONTEXT, applicationContext);
+    return result;
+  }
+
+  /** Returns whether the agent context is the one that this wrapper was attached as. */
+  boolean isAttachedAs(io.opentelemetry.context.Context agentContext) {
+    return attachedAgentContext == agentContext;
   }
 
   public io.opentelemetry.context.Context getAgentContext() {
@@ -17,6 +17,8 @@ import javax.annotation.Nullable;
 public class ApplicationSpan implements Span {
 
   private final io.opentelemetry.api.trace.Span agentSpan;
+  // the span context of a span doesn't change, it is translated on the first access
+  @Nullable private volatile SpanContext applicationSpanContext;
 
   public ApplicationSpan(io.opentelemetry.api.trace.Span agentSpan) {
     this.agentSpan = agentSpan;
@@ -132,7 +134,7 @@ public class ApplicationSpan implements Span {
   @Override
   @CanIgnoreReturnValue
   public Span recordException(Throwable throwable, Attributes attributes) {
-    agentSpan.recordException(throwable, Bridging.toAgent(attributes));
+    agentSpan.recordException(throwable, Bridging.toAgentView(attributes));
     return this;
   }
 
@@ -155,7 +157,12 @@ public class ApplicationSpan implements Span {
 
   @Override
   public SpanContext getSpanContext() {
-    return Bridging.toApplication(agentSpan.getSpanContext());
+    SpanContext spanContext = applicationSpanContext;
+    if (spanContext == null) {
+      spanContext = Bridging.toApplication(agentSpan.getSpanContext());
+      applicationSpanContext = spanContext;
+    }
+    return spanContext;
   }
 
   @Override
@@ -0,0 +1,128 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.opentelemetryapi.trace;
+
+import application.io.opentelemetry.api.common.AttributeKey;
+import application.io.opentelemetry.api.common.Attributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * Exposes the application attributes to the agent without copying them, the keys are translated
+ * when the attributes are read. The attributes whose key can't be translated are left out, also
+ * from {@link #size()}.
+ */
+// Our convention for accessing agent package
+@SuppressWarnings("UnnecessarilyFullyQualified")
+final class BridgedAttributes implements io.opentelemetry.api.common.Attributes {
+
+  private final Attributes applicationAttributes;
+  // number of the attributes whose key can be translated, computed on the first access
+  private int size = -1;
+
+  BridgedAttributes(Attributes applicationAttributes) {
+    this.applicationAttributes = applicationAttributes;
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(io.opentelemetry.api.common.AttributeKey<T> agentKey) {
+    AttributeKey<T> applicationKey = toApplication(agentKey);
+    return applicationKey == null ? null : applicationAttributes.get(applicationKey);
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public void forEach(
+      BiConsumer<? super io.opentelemetry.api.common.AttributeKey<?>, ? super Object> consumer) {
+    applicationAttributes.forEach(
+        (key, value) -> {
+          io.opentelemetry.api.common.AttributeKey agentKey = Bridging.toAgent(key);
+          if (agentKey != null) {
+            consumer.accept(agentKey, value);
+          }
+        });
+  }
+
+  @Override
+  public int size() {
+    if (size == -1) {
+      int[] count = new int[1];
+      forEach((key, value) -> count[0]++);
+      size = count[0];
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public Map<io.opentelemetry.api.common.AttributeKey<?>, Object> asMap() {
+    Map<io.opentelemetry.api.common.AttributeKey<?>, Object> map = new LinkedHashMap<>();
+    forEach(map::put);
+    return map;
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public io.opentelemetry.api.common.AttributesBuilder toBuilder() {
+    io.opentelemetry.api.common.AttributesBuilder builder =
+        io.opentelemetry.api.common.Attributes.builder();
+    forEach((key, value) -> builder.put((io.opentelemetry.api.common.AttributeKey) key, value));
+    return builder;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof BridgedAttributes)) {
+      return false;
+    }
+    return applicationAttributes.equals(((BridgedAttributes) obj).applicationAttributes);
+  }
+
+  @Override
+  public int hashCode() {
+    return applicationAttributes.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return applicationAttributes.toString();
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static <T> AttributeKey<T> toApplication(
+      io.opentelemetry.api.common.AttributeKey<T> agentKey) {
+    switch (agentKey.getType()) {
+      case STRING:
+        return (AttributeKey<T>) AttributeKey.stringKey(agentKey.getKey());
+      case BOOLEAN:
+        return (AttributeKey<T>) AttributeKey.booleanKey(agentKey.getKey());
+      case LONG:
+        return (AttributeKey<T>) AttributeKey.longKey(agentKey.getKey());
+      case DOUBLE:
+        return (AttributeKey<T>) AttributeKey.doubleKey(agentKey.getKey());
+      case STRING_ARRAY:
+        return (AttributeKey<T>) AttributeKey.stringArrayKey(agentKey.getKey());
+      case BOOLEAN_ARRAY:
+        return (AttributeKey<T>) AttributeKey.booleanArrayKey(agentKey.getKey());
+      case LONG_ARRAY:
+        return (AttributeKey<T>) AttributeKey.longArrayKey(agentKey.getKey());
+      case DOUBLE_ARRAY:
+        return (AttributeKey<T>) AttributeKey.doubleArrayKey(agentKey.getKey());
+    }
+    return null;
+  }
+}
@@ -15,9 +15,12 @@ import application.io.opentelemetry.api.trace.SpanKind;
 import application.io.opentelemetry.api.trace.StatusCode;
 import application.io.opentelemetry.api.trace.TraceState;
 import application.io.opentelemetry.api.trace.TraceStateBuilder;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.instrumentation.api.internal.cache.CompactWeakCache;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * This class translates between the (unshaded) OpenTelemetry API that the application brings and
@@ -38,6 +41,10 @@ public class Bridging {
 
   private static final Logger logger = Logger.getLogger(Bridging.class.getName());
 
+  // application keys are usually constants, so they are translated once and looked up by identity
+  private static final Cache<AttributeKey<?>, io.opentelemetry.api.common.AttributeKey<?>>
+      agentAttributeKeys = new CompactWeakCache<>();
+
   public static Span toApplication(io.opentelemetry.api.trace.Span agentSpan) {
     if (!agentSpan.getSpanContext().isValid()) {
       // no need to wrap
@@ -64,6 +71,9 @@ public class Bridging {
   }
 
   private static TraceState toApplication(io.opentelemetry.api.trace.TraceState agentTraceState) {
+    if (agentTraceState.isEmpty()) {
+      return TraceState.getDefault();
+    }
     TraceStateBuilder applicationTraceState = TraceState.builder();
     agentTraceState.forEach(applicationTraceState::put);
     return applicationTraceState.build();
@@ -105,8 +115,16 @@ public class Bridging {
     }
   }
 
+  /**
+   * Copies the application attributes, for the agent APIs that keep the attributes, e.g. as the
+   * key of a metric point or in a span event. See {@link #toAgentView(Attributes)} for the APIs
+   * that copy them.
+   */
   @SuppressWarnings({"unchecked", "rawtypes"})
   public static io.opentelemetry.api.common.Attributes toAgent(Attributes applicationAttributes) {
+    if (applicationAttributes.isEmpty()) {
+      return io.opentelemetry.api.common.Attributes.empty();
+    }
     io.opentelemetry.api.common.AttributesBuilder agentAttributes =
         io.opentelemetry.api.common.Attributes.builder();
     applicationAttributes.forEach(
@@ -119,10 +137,34 @@ public class Bridging {
     return agentAttributes.build();
   }
 
-  // TODO optimize this by storing shaded AttributeKey inside of application AttributeKey instead of
-  // creating every time
+  /**
+   * Returns a view of the application attributes, for the agent APIs that copy the attributes
+   * instead of keeping them, e.g. {@code recordException()} of the SDK span. The view must not be
+   * kept, it would retain the application attributes and their class loader.
+   */
+  public static io.opentelemetry.api.common.Attributes toAgentView(
+      Attributes applicationAttributes) {
+    if (applicationAttributes.isEmpty()) {
+      return io.opentelemetry.api.common.Attributes.empty();
+    }
+    return new BridgedAttributes(applicationAttributes);
+  }
+
   @SuppressWarnings({"rawtypes"})
   public static io.opentelemetry.api.common.AttributeKey toAgent(AttributeKey applicationKey) {
+    io.opentelemetry.api.common.AttributeKey<?> agentKey = agentAttributeKeys.get(applicationKey);
+    if (agentKey == null) {
+      agentKey = createAgentKey(applicationKey);
+      if (agentKey != null) {
+        agentAttributeKeys.put(applicationKey, agentKey);
+      }
+    }
+    return agentKey;
+  }
+
+  @Nullable
+  private static io.opentelemetry.api.common.AttributeKey<?> createAgentKey(
+      AttributeKey<?> applicationKey) {
     switch (applicationKey.getType()) {
       case STRING:
         return io.opentelemetry.api.common.AttributeKey.stringKey(applicationKey.getKey());
@@ -167,6 +209,9 @@ public class Bridging {
   }
 
   private static io.opentelemetry.api.trace.TraceState toAgent(TraceState applicationTraceState) {
+    if (applicationTraceState.isEmpty()) {
+      return io.opentelemetry.api.trace.TraceState.getDefault();
+    }
     io.opentelemetry.api.trace.TraceStateBuilder agentTraceState =
         io.opentelemetry.api.trace.TraceState.builder();
     applicationTraceState.forEach(agentTraceState::put);
@@ -87,4 +87,23 @@ class ContextTest {
       assertThat(span).isEqualTo(testSpan);
     }
   }
+
+  @Test
+  @DisplayName("Context.current() should return the attached context")
+  void contextCurrentShouldReturnAttachedContext() {
+    Tracer tracer = GlobalOpenTelemetry.getTracer("test");
+    Span testSpan = tracer.spanBuilder("test").startSpan();
+    Context context = Context.current().with(testSpan);
+
+    // When
+    try (Scope ignored = context.makeCurrent()) {
+      // Then
+      assertThat(Context.current()).isSameAs(context);
+      try (Scope nested = context.makeCurrent()) {
+        assertThat(Context.current()).isSameAs(context);
+      }
+      assertThat(Span.current()).isEqualTo(testSpan);
+    }
+    assertThat(Span.current().getSpanContext().isValid()).isFalse();
+  }
 }
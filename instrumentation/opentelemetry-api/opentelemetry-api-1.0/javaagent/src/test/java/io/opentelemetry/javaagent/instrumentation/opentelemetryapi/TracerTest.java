@@ -16,6 +16,7 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equal
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
@@ -250,6 +251,36 @@ class TracerTest {
                                         equalTo(stringKey("dog"), "bark")))));
   }
 
+  @Test
+  @DisplayName("capture event and attributes with AttributeKey")
+  void captureEventAndAttributesWithAttributeKey() {
+    AttributeKey<String> key = stringKey("animal");
+
+    // When
+    Tracer tracer = GlobalOpenTelemetry.getTracer("test");
+    Span testSpan = tracer.spanBuilder("test").setAttribute(key, "cat").startSpan();
+    testSpan.setAttribute(key, "dog");
+    testSpan.setAttribute(longKey("legs"), 4L);
+    testSpan.addEvent("event", Attributes.of(key, "bark", longKey("count"), 2L));
+    testSpan.end();
+
+    // Then
+    assertThat(testSpan.getSpanContext()).isEqualTo(testSpan.getSpanContext());
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("test")
+                        .hasAttributesSatisfyingExactly(
+                            equalTo(key, "dog"), equalTo(longKey("legs"), 4L))
+                        .hasEventsSatisfyingExactly(
+                            event ->
+                                event
+                                    .hasName("event")
+                                    .hasAttributesSatisfyingExactly(
+                                        equalTo(key, "bark"), equalTo(longKey("count"), 2L)))));
+  }
+
   @Test
   @DisplayName("capture name update using TracingContextUtils.getCurrentSpan()")
   void captureNameUpdateUsingTracingContextUtilsGetCurrentSpan() {
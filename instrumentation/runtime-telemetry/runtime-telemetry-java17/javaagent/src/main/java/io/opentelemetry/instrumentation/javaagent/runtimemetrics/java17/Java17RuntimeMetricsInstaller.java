@@ -8,12 +8,14 @@ package io.opentelemetry.instrumentation.javaagent.runtimemetrics.java17;
 import com.google.auto.service.AutoService;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrFeature;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.RuntimeMetrics;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.RuntimeMetricsBuilder;
 import io.opentelemetry.javaagent.extension.AgentListener;
 import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
 import io.opentelemetry.sdk.autoconfigure.internal.AutoConfigureUtil;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.time.Duration;
 
 /** An {@link AgentListener} that enables runtime metrics during agent startup. */
 @AutoService(AgentListener.class)
@@ -45,6 +47,38 @@ public class Java17RuntimeMetricsInstaller implements AgentListener {
           "otel.instrumentation.runtime-telemetry.emit-experimental-telemetry", false)) {
         builder.enableExperimentalJmxTelemetry();
       }
+      if (config.getBoolean(
+          "otel.instrumentation.runtime-telemetry-java17.experimental.allocation-profiling.enabled",
+          false)) {
+        builder
+            .enableFeature(JfrFeature.ALLOCATION_PROFILING_METRICS)
+            .setAllocationProfilingCaptureTopFrame(
+                config.getBoolean(
+                    "otel.instrumentation.runtime-telemetry-java17.experimental.allocation-profiling.capture-top-frame",
+                    false))
+            .setAllocationProfilingWindow(
+                config.getDuration(
+                    "otel.instrumentation.runtime-telemetry-java17.experimental.allocation-profiling.window",
+                    Duration.ofMinutes(1)));
+      }
+      if (config.getBoolean(
+          "otel.instrumentation.runtime-telemetry-java17.experimental.lock-contention.enabled",
+          false)) {
+        builder
+            .enableFeature(JfrFeature.LOCK_CONTENTION_METRICS)
+            .setLockContentionThreshold(
+                config.getDuration(
+                    "otel.instrumentation.runtime-telemetry-java17.experimental.lock-contention.threshold",
+                    Duration.ofMillis(20)))
+            .setLockContentionWindow(
+                config.getDuration(
+                    "otel.instrumentation.runtime-telemetry-java17.experimental.lock-contention.window",
+                    Duration.ofMinutes(1)));
+      }
+      builder.setJfrEventProcessingThreads(
+          config.getInt(
+              "otel.instrumentation.runtime-telemetry-java17.experimental.jfr-event-processing-threads",
+              0));
 
       RuntimeMetrics finalJfrTelemetry = builder.build();
       Thread cleanupTelemetry = new Thread(() -> finalJfrTelemetry.close());
@@ -15,6 +15,8 @@ import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.buffer.Di
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.classes.ClassesLoadedHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.container.ContainerConfigurationHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.cpu.ContextSwitchRateHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.cpu.LockContentionHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.cpu.LockContentionTracker;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.cpu.LongLockHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.cpu.OverallCpuLoadHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.garbagecollection.G1GarbageCollectionHandler;
@@ -25,12 +27,14 @@ import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.G1
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.MetaspaceSummaryHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.ObjectAllocationInNewTlabHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.ObjectAllocationOutsideTlabHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.ObjectAllocationSampleHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.ParallelHeapSummaryHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.network.NetworkReadHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.network.NetworkWriteHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.threads.ThreadCountHandler;
 import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -46,14 +50,25 @@ final class HandlerRegistry {
 
   private HandlerRegistry() {}
 
-  static List<RecordedEventHandler> getHandlers(
-      OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
-
+  static Meter getMeter(OpenTelemetry openTelemetry) {
     MeterBuilder meterBuilder = openTelemetry.meterBuilder(SCOPE_NAME);
     if (SCOPE_VERSION != null) {
       meterBuilder.setInstrumentationVersion(SCOPE_VERSION);
     }
-    Meter meter = meterBuilder.build();
+    return meterBuilder.build();
+  }
+
+  static List<RecordedEventHandler> getHandlers(
+      OpenTelemetry openTelemetry,
+      Predicate<JfrFeature> featurePredicate,
+      int allocationProfilingTopN,
+      boolean allocationProfilingCaptureTopFrame,
+      Duration allocationProfilingWindow,
+      int lockContentionTopK,
+      Duration lockContentionThreshold,
+      Duration lockContentionWindow) {
+
+    Meter meter = getMeter(openTelemetry);
 
     List<RecordedEventHandler> handlers = new ArrayList<RecordedEventHandler>();
     for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
@@ -85,16 +100,26 @@ final class HandlerRegistry {
     }
 
     ThreadGrouper grouper = new ThreadGrouper();
+    LockContentionTracker lockContentionTracker =
+        new LockContentionTracker(meter, lockContentionTopK, lockContentionWindow);
     List<RecordedEventHandler> basicHandlers =
         List.of(
             new ObjectAllocationInNewTlabHandler(meter, grouper),
             new ObjectAllocationOutsideTlabHandler(meter, grouper),
+            new ObjectAllocationSampleHandler(
+                meter,
+                allocationProfilingTopN,
+                allocationProfilingCaptureTopFrame,
+                allocationProfilingWindow),
             new NetworkReadHandler(meter, grouper),
             new NetworkWriteHandler(meter, grouper),
             new ContextSwitchRateHandler(meter),
             new OverallCpuLoadHandler(meter),
             new ContainerConfigurationHandler(meter),
             new LongLockHandler(meter, grouper),
+            LockContentionHandler.monitorWait(lockContentionTracker, lockContentionThreshold),
+            LockContentionHandler.monitorEnter(lockContentionTracker, lockContentionThreshold),
+            LockContentionHandler.threadPark(lockContentionTracker, lockContentionThreshold),
             new ThreadCountHandler(meter),
             new ClassesLoadedHandler(meter),
             new MetaspaceSummaryHandler(meter),
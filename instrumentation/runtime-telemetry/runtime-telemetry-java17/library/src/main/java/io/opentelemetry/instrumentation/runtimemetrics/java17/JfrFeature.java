@@ -13,12 +13,14 @@ package io.opentelemetry.instrumentation.runtimemetrics.java17;
  * instrumentation.
  */
 public enum JfrFeature {
+  ALLOCATION_PROFILING_METRICS(/* defaultEnabled= */ false),
   BUFFER_METRICS(/* defaultEnabled= */ false),
   CLASS_LOAD_METRICS(/* defaultEnabled= */ false),
   CONTEXT_SWITCH_METRICS(/* defaultEnabled= */ true),
   CPU_COUNT_METRICS(/* defaultEnabled= */ true),
   CPU_UTILIZATION_METRICS(/* defaultEnabled= */ false),
   GC_DURATION_METRICS(/* defaultEnabled= */ false),
+  LOCK_CONTENTION_METRICS(/* defaultEnabled= */ false),
   LOCK_METRICS(/* defaultEnabled= */ true),
   MEMORY_ALLOCATION_METRICS(/* defaultEnabled= */ true),
   MEMORY_POOL_METRICS(/* defaultEnabled= */ false),
@@ -6,9 +6,12 @@
 package io.opentelemetry.instrumentation.runtimemetrics.java17;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.BatchingEventDispatcher;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.EventProcessingLag;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.JmxRuntimeMetricsUtil;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -87,17 +90,49 @@ public final class RuntimeMetrics implements Closeable {
   static class JfrRuntimeMetrics implements Closeable {
     private final List<RecordedEventHandler> recordedEventHandlers;
     private final RecordingStream recordingStream;
+    @Nullable private final BatchingEventDispatcher dispatcher;
     private final CountDownLatch startUpLatch = new CountDownLatch(1);
 
-    private JfrRuntimeMetrics(OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
-      this.recordedEventHandlers = HandlerRegistry.getHandlers(openTelemetry, featurePredicate);
+    private JfrRuntimeMetrics(
+        OpenTelemetry openTelemetry,
+        Predicate<JfrFeature> featurePredicate,
+        int eventProcessingThreads,
+        int allocationProfilingTopN,
+        boolean allocationProfilingCaptureTopFrame,
+        Duration allocationProfilingWindow,
+        int lockContentionTopK,
+        Duration lockContentionThreshold,
+        Duration lockContentionWindow) {
+      this.recordedEventHandlers =
+          HandlerRegistry.getHandlers(
+              openTelemetry,
+              featurePredicate,
+              allocationProfilingTopN,
+              allocationProfilingCaptureTopFrame,
+              allocationProfilingWindow,
+              lockContentionTopK,
+              lockContentionThreshold,
+              lockContentionWindow);
       recordingStream = new RecordingStream();
+      EventProcessingLag processingLag =
+          new EventProcessingLag(HandlerRegistry.getMeter(openTelemetry));
+      if (eventProcessingThreads > 0) {
+        dispatcher = new BatchingEventDispatcher(processingLag, eventProcessingThreads);
+        // the events are handled after the stream moved on to the next ones
+        recordingStream.setReuse(false);
+        recordingStream.onFlush(dispatcher::flush);
+      } else {
+        dispatcher = null;
+      }
       recordedEventHandlers.forEach(
           handler -> {
             EventSettings eventSettings = recordingStream.enable(handler.getEventName());
             handler.getPollingDuration().ifPresent(eventSettings::withPeriod);
             handler.getThreshold().ifPresent(eventSettings::withThreshold);
-            recordingStream.onEvent(handler.getEventName(), handler);
+            handler.configure(eventSettings);
+            recordingStream.onEvent(
+                handler.getEventName(),
+                dispatcher == null ? processingLag.wrap(handler) : dispatcher.wrap(handler));
           });
       recordingStream.onMetadata(event -> startUpLatch.countDown());
       Thread daemonRunner = new Thread(() -> recordingStream.start());
@@ -106,16 +141,37 @@ public final class RuntimeMetrics implements Closeable {
     }
 
     static JfrRuntimeMetrics build(
-        OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
+        OpenTelemetry openTelemetry,
+        Predicate<JfrFeature> featurePredicate,
+        int eventProcessingThreads,
+        int allocationProfilingTopN,
+        boolean allocationProfilingCaptureTopFrame,
+        Duration allocationProfilingWindow,
+        int lockContentionTopK,
+        Duration lockContentionThreshold,
+        Duration lockContentionWindow) {
       if (!hasJfrRecordingStream()) {
         return null;
       }
-      return new JfrRuntimeMetrics(openTelemetry, featurePredicate);
+      return new JfrRuntimeMetrics(
+          openTelemetry,
+          featurePredicate,
+          eventProcessingThreads,
+          allocationProfilingTopN,
+          allocationProfilingCaptureTopFrame,
+          allocationProfilingWindow,
+          lockContentionTopK,
+          lockContentionThreshold,
+          lockContentionWindow);
     }
 
     @Override
     public void close() {
       recordingStream.close();
+      if (dispatcher != null) {
+        // the workers must be stopped before the handlers they call are closed
+        dispatcher.close();
+      }
       recordedEventHandlers.forEach(RecordedEventHandler::close);
     }
 
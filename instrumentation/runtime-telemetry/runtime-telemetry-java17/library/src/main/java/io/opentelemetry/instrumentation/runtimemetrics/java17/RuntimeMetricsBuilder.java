@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.runtimemetrics.java17;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.Classes;
@@ -15,6 +17,7 @@ import io.opentelemetry.instrumentation.runtimemetrics.java8.Threads;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.ExperimentalBufferPools;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.ExperimentalCpu;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.ExperimentalMemoryPools;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,6 +34,13 @@ public final class RuntimeMetricsBuilder {
 
   private boolean disableJmx = false;
   private boolean enableExperimentalJmxTelemetry = false;
+  private int jfrEventProcessingThreads = 0;
+  private int allocationProfilingTopN = 10;
+  private boolean allocationProfilingCaptureTopFrame = false;
+  private Duration allocationProfilingWindow = Duration.ofMinutes(1);
+  private int lockContentionTopK = 10;
+  private Duration lockContentionThreshold = Duration.ofMillis(20);
+  private Duration lockContentionWindow = Duration.ofMinutes(1);
 
   RuntimeMetricsBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -90,6 +100,108 @@ public final class RuntimeMetricsBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of threads handling the high volume JFR events, like the allocation, lock and
+   * network events. Setting a positive number hands these events over to the threads in batches.
+   * By default, all the events are handled on the JFR recording stream thread. In both cases, the
+   * {@code otel.jfr.processing.lag} metric records how far the handling lags behind the events.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setJfrEventProcessingThreads(int jfrEventProcessingThreads) {
+    if (jfrEventProcessingThreads < 0) {
+      throw new IllegalArgumentException(
+          "jfrEventProcessingThreads must not be negative: " + jfrEventProcessingThreads);
+    }
+    this.jfrEventProcessingThreads = jfrEventProcessingThreads;
+    return this;
+  }
+
+  /**
+   * Sets the number of classes reported by the {@link JfrFeature#ALLOCATION_PROFILING_METRICS}
+   * feature, the classes that allocated the most in the last time window. Defaults to 10.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setAllocationProfilingTopN(int allocationProfilingTopN) {
+    if (allocationProfilingTopN < 1) {
+      throw new IllegalArgumentException(
+          "allocationProfilingTopN must be positive: " + allocationProfilingTopN);
+    }
+    this.allocationProfilingTopN = allocationProfilingTopN;
+    return this;
+  }
+
+  /**
+   * Sets whether the {@link JfrFeature#ALLOCATION_PROFILING_METRICS} feature also breaks the
+   * allocations down by allocating method. This records the stack traces of the sampled
+   * allocations, and multiplies the number of reported series.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setAllocationProfilingCaptureTopFrame(
+      boolean allocationProfilingCaptureTopFrame) {
+    this.allocationProfilingCaptureTopFrame = allocationProfilingCaptureTopFrame;
+    return this;
+  }
+
+  /**
+   * Sets the time window of the {@link JfrFeature#ALLOCATION_PROFILING_METRICS} feature, the
+   * reported classes are the ones that allocated the most in the last complete window. Defaults to
+   * 1 minute.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setAllocationProfilingWindow(Duration allocationProfilingWindow) {
+    requireNonNull(allocationProfilingWindow, "allocationProfilingWindow");
+    if (allocationProfilingWindow.isNegative() || allocationProfilingWindow.isZero()) {
+      throw new IllegalArgumentException(
+          "allocationProfilingWindow must be positive: " + allocationProfilingWindow);
+    }
+    this.allocationProfilingWindow = allocationProfilingWindow;
+    return this;
+  }
+
+  /**
+   * Sets the number of lock classes reported by the {@link JfrFeature#LOCK_CONTENTION_METRICS}
+   * feature, the lock classes threads were blocked on the longest in the last complete window.
+   * Defaults to 10.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setLockContentionTopK(int lockContentionTopK) {
+    if (lockContentionTopK < 1) {
+      throw new IllegalArgumentException(
+          "lockContentionTopK must be positive: " + lockContentionTopK);
+    }
+    this.lockContentionTopK = lockContentionTopK;
+    return this;
+  }
+
+  /**
+   * Sets the minimum duration of the monitor enter, monitor wait and thread park JFR events
+   * recorded by the {@link JfrFeature#LOCK_CONTENTION_METRICS} feature. Defaults to 20
+   * milliseconds, like the default JFR configuration. When {@link JfrFeature#LOCK_METRICS} is also
+   * enabled, the threshold also applies to the monitor wait events it records.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setLockContentionThreshold(Duration lockContentionThreshold) {
+    requireNonNull(lockContentionThreshold, "lockContentionThreshold");
+    this.lockContentionThreshold = lockContentionThreshold;
+    return this;
+  }
+
+  /**
+   * Sets the time window of the {@link JfrFeature#LOCK_CONTENTION_METRICS} feature, the reported
+   * lock classes are the ones threads were blocked on the longest in the last complete window.
+   * Defaults to 1 minute.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setLockContentionWindow(Duration lockContentionWindow) {
+    requireNonNull(lockContentionWindow, "lockContentionWindow");
+    if (lockContentionWindow.isNegative() || lockContentionWindow.isZero()) {
+      throw new IllegalArgumentException(
+          "lockContentionWindow must be positive: " + lockContentionWindow);
+    }
+    this.lockContentionWindow = lockContentionWindow;
+    return this;
+  }
+
   /** Build and start an {@link RuntimeMetrics} with the config from this builder. */
   public RuntimeMetrics build() {
     List<AutoCloseable> observables = buildObservables();
@@ -126,6 +238,15 @@ public final class RuntimeMetricsBuilder {
     if (enabledFeatureMap.values().stream().noneMatch(isEnabled -> isEnabled)) {
       return null;
     }
-    return RuntimeMetrics.JfrRuntimeMetrics.build(openTelemetry, enabledFeatureMap::get);
+    return RuntimeMetrics.JfrRuntimeMetrics.build(
+        openTelemetry,
+        enabledFeatureMap::get,
+        jfrEventProcessingThreads,
+        allocationProfilingTopN,
+        allocationProfilingCaptureTopFrame,
+        allocationProfilingWindow,
+        lockContentionTopK,
+        lockContentionThreshold,
+        lockContentionWindow);
   }
 }
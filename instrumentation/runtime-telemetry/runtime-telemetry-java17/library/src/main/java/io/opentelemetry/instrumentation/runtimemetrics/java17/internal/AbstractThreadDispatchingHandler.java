@@ -5,18 +5,26 @@
 
 package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
 
-import java.util.HashMap;
-import java.util.Map;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import java.util.function.Consumer;
 import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
  * any time.
  */
 public abstract class AbstractThreadDispatchingHandler implements RecordedEventHandler {
-  // Will need pruning code for fast-cycling thread frameworks to prevent memory leaks
-  private final Map<String, Consumer<RecordedEvent>> perThread = new HashMap<>();
+  // java thread ids are never reused, so fast-cycling thread frameworks keep adding entries
+  private static final int MAX_THREADS = 4096;
+  private static final int MAX_THREAD_GROUPS = 1024;
+
+  private static final Consumer<RecordedEvent> NOOP = ev -> {};
+
+  // keyed by thread id, so that the thread group is only resolved for the first event of a thread
+  private final Cache<Long, Consumer<RecordedEvent>> perThread = Cache.bounded(MAX_THREADS);
+  private final Cache<String, Consumer<RecordedEvent>> perThreadGroup =
+      Cache.bounded(MAX_THREAD_GROUPS);
   private final ThreadGrouper grouper;
 
   protected AbstractThreadDispatchingHandler(ThreadGrouper grouper) {
@@ -28,11 +36,23 @@ public abstract class AbstractThreadDispatchingHandler implements RecordedEventH
 
   public abstract Consumer<RecordedEvent> createPerThreadSummarizer(String threadName);
 
+  /**
+   * Dispatches the event to the summarizer of its thread group. Events of different threads can be
+   * dispatched concurrently.
+   */
   @Override
   public void accept(RecordedEvent ev) {
-    String groupedName = grouper.groupedName(ev);
-    if (groupedName != null) {
-      perThread.computeIfAbsent(groupedName, this::createPerThreadSummarizer).accept(ev);
+    RecordedThread thread = ev.getThread();
+    if (thread != null) {
+      perThread.computeIfAbsent(thread.getJavaThreadId(), id -> summarizer(thread)).accept(ev);
+    }
+  }
+
+  private Consumer<RecordedEvent> summarizer(RecordedThread thread) {
+    String groupedName = grouper.groupedName(thread);
+    if (groupedName == null) {
+      return NOOP;
     }
+    return perThreadGroup.computeIfAbsent(groupedName, this::createPerThreadSummarizer);
   }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+
+/**
+ * Hands the events of the {@link AbstractThreadDispatchingHandler}s over to a pool of worker
+ * threads, in batches. The events of a thread always go to the same worker, so they are handled
+ * in order. The events of the other handlers are still handled on the recording stream thread.
+ * The {@link EventProcessingLag} of all the events is recorded.
+ *
+ * <p>The recording stream must not reuse the event objects, see {@link
+ * jdk.jfr.consumer.EventStream#setReuse(boolean)}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class BatchingEventDispatcher implements AutoCloseable {
+
+  private static final Logger logger = Logger.getLogger(BatchingEventDispatcher.class.getName());
+
+  private static final int BATCH_SIZE = 256;
+  // batches per worker, when full the recording stream thread waits and JFR buffers the events
+  private static final int QUEUE_CAPACITY = 64;
+  // bounds the wait for the batch being handled when closing
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final Worker[] workers;
+  private final EventProcessingLag processingLag;
+  private volatile boolean closed;
+
+  public BatchingEventDispatcher(EventProcessingLag processingLag, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be positive: " + threads);
+    }
+    this.processingLag = processingLag;
+    workers = new Worker[threads];
+    for (int i = 0; i < threads; i++) {
+      workers[i] = new Worker();
+      Thread thread = new Thread(workers[i], "otel-jfr-event-processor-" + i);
+      thread.setDaemon(true);
+      workers[i].thread = thread;
+      thread.start();
+    }
+  }
+
+  /** Returns the action to register on the recording stream for the handler. */
+  public Consumer<RecordedEvent> wrap(RecordedEventHandler handler) {
+    if (handler instanceof AbstractThreadDispatchingHandler) {
+      return ev -> dispatch(handler, ev);
+    }
+    return processingLag.wrap(handler);
+  }
+
+  private void dispatch(RecordedEventHandler handler, RecordedEvent ev) {
+    RecordedThread thread = ev.getThread();
+    long threadId = thread == null ? 0 : thread.getJavaThreadId();
+    workers[Math.floorMod(Long.hashCode(threadId), workers.length)].add(handler, ev);
+  }
+
+  /** Hands the pending events over to the workers, called after each flush of the stream. */
+  public void flush() {
+    for (Worker worker : workers) {
+      worker.submit();
+    }
+  }
+
+  /**
+   * Stops the workers, and waits for them to finish the batch they are handling, so that the
+   * handlers can be closed afterwards.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Worker worker : workers) {
+      worker.thread.interrupt();
+    }
+    long deadline = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+    try {
+      for (Worker worker : workers) {
+        long remainingMillis = MILLISECONDS.convert(deadline - System.nanoTime(), NANOSECONDS);
+        worker.thread.join(Math.max(1, remainingMillis));
+        if (worker.thread.isAlive()) {
+          logger.log(Level.FINE, "Timed out waiting for {0} to stop", worker.thread.getName());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private final class Worker implements Runnable {
+    private final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // only accessed by the recording stream thread
+    private Batch pending = new Batch();
+    private Thread thread;
+
+    void add(RecordedEventHandler handler, RecordedEvent ev) {
+      if (pending.add(handler, ev)) {
+        submit();
+      }
+    }
+
+    void submit() {
+      if (pending.size == 0) {
+        return;
+      }
+      try {
+        while (!closed) {
+          if (queue.offer(pending, 100, MILLISECONDS)) {
+            break;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      pending = new Batch();
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!closed) {
+          process(queue.take());
+        }
+      } catch (InterruptedException e) {
+        // closed
+      }
+    }
+
+    private void process(Batch batch) {
+      Instant now = Instant.now();
+      for (int i = 0; i < batch.size; i++) {
+        processingLag.record(batch.events[i], now);
+        try {
+          batch.handlers[i].accept(batch.events[i]);
+        } catch (RuntimeException e) {
+          logger.log(Level.FINE, "Failed to handle JFR event", e);
+        }
+      }
+    }
+  }
+
+  private static final class Batch {
+    private final RecordedEventHandler[] handlers = new RecordedEventHandler[BATCH_SIZE];
+    private final RecordedEvent[] events = new RecordedEvent[BATCH_SIZE];
+    private int size;
+
+    /** Returns whether the batch is full. */
+    boolean add(RecordedEventHandler handler, RecordedEvent ev) {
+      handlers[size] = handler;
+      events[size] = ev;
+      return ++size == BATCH_SIZE;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * Records how far the handling of the JFR events lags behind the events, whether they are handled
+ * on the recording stream thread or handed over to the {@link BatchingEventDispatcher}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class EventProcessingLag {
+
+  public static final String METRIC_NAME = "otel.jfr.processing.lag";
+  private static final String METRIC_DESCRIPTION =
+      "Time between the end of a JFR event and the start of its processing.";
+
+  private final DoubleHistogram histogram;
+
+  public EventProcessingLag(Meter meter) {
+    histogram =
+        meter
+            .histogramBuilder(METRIC_NAME)
+            .setDescription(METRIC_DESCRIPTION)
+            .setUnit(Constants.SECONDS)
+            .build();
+  }
+
+  /** Returns the action to register on the recording stream for the handler. */
+  public Consumer<RecordedEvent> wrap(RecordedEventHandler handler) {
+    return ev -> {
+      record(ev, Instant.now());
+      handler.accept(ev);
+    };
+  }
+
+  void record(RecordedEvent ev, Instant now) {
+    histogram.record(DurationUtil.toSeconds(Duration.between(ev.getEndTime(), now)));
+  }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import jdk.jfr.EventSettings;
 import jdk.jfr.consumer.RecordedEvent;
 
 /**
@@ -63,6 +64,13 @@ public interface RecordedEventHandler
     return Optional.empty();
   }
 
+  /**
+   * Optionally adjusts further settings of the JFR event, like stack traces or throttling
+   *
+   * @param eventSettings the settings of the event
+   */
+  default void configure(EventSettings eventSettings) {}
+
   static void closeObservables(List<AutoCloseable> observables) {
     observables.forEach(
         observable -> {
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted space-saving sketch, keeps an estimate of the heaviest keys in a bounded number of
+ * counters. When all the counters are taken, the lightest key is replaced, and the new key takes
+ * over its weight, so the weights of the heavy hitters are overestimated rather than lost.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpaceSavingSketch<K> {
+
+  private final int capacity;
+  private final Map<K, long[]> weights = new HashMap<>();
+
+  public SpaceSavingSketch(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  public void add(K key, long weight) {
+    long[] counter = weights.get(key);
+    if (counter != null) {
+      counter[0] += weight;
+      return;
+    }
+    if (weights.size() < capacity) {
+      weights.put(key, new long[] {weight});
+      return;
+    }
+    // the capacity is small, finding the lightest counter is cheaper than maintaining an order
+    Map.Entry<K, long[]> lightest = null;
+    for (Map.Entry<K, long[]> entry : weights.entrySet()) {
+      if (lightest == null || entry.getValue()[0] < lightest.getValue()[0]) {
+        lightest = entry;
+      }
+    }
+    counter = weights.remove(lightest.getKey());
+    counter[0] += weight;
+    weights.put(key, counter);
+  }
+
+  /** Returns at most {@code n} of the heaviest keys with their estimated weight, heaviest first. */
+  public List<Map.Entry<K, Long>> top(int n) {
+    List<Map.Entry<K, Long>> result = new ArrayList<>(weights.size());
+    for (Map.Entry<K, long[]> entry : weights.entrySet()) {
+      result.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()[0]));
+    }
+    result.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+    return result.size() > n ? new ArrayList<>(result.subList(0, n)) : result;
+  }
+
+  public void clear() {
+    weights.clear();
+  }
+}
@@ -15,14 +15,18 @@ import jdk.jfr.consumer.RecordedThread;
  */
 public final class ThreadGrouper {
 
-  // FIXME doesn't actually do any grouping, but should be safe for now
   @Nullable
   public String groupedName(RecordedEvent ev) {
     Object thisField = ev.getValue("eventThread");
     if (thisField instanceof RecordedThread) {
-      RecordedThread thread = (RecordedThread) thisField;
-      return thread.getJavaName();
+      return groupedName((RecordedThread) thisField);
     }
     return null;
   }
+
+  // FIXME doesn't actually do any grouping, but should be safe for now
+  @Nullable
+  public String groupedName(RecordedThread thread) {
+    return thread.getJavaName();
+  }
 }
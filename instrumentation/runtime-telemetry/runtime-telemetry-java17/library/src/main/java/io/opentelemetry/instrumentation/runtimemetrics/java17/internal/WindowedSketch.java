@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the heaviest keys of fixed time windows in a {@link SpaceSavingSketch}, and exposes the
+ * heaviest keys of the last complete window. Reading the keys doesn't reset the sketch, so all the
+ * metric readers observe the same values.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class WindowedSketch<K> {
+
+  // more counters than reported keys makes the estimates of the reported keys more accurate
+  private static final int COUNTERS_PER_KEY = 4;
+
+  private final int topN;
+  private final long windowNanos;
+  private final LongSupplier nanoTime;
+  private final SpaceSavingSketch<K> sketch;
+  private long windowStart;
+  private List<Map.Entry<K, Long>> lastWindow = Collections.emptyList();
+
+  public WindowedSketch(int topN, Duration window) {
+    this(topN, window, System::nanoTime);
+  }
+
+  // Visible for testing
+  WindowedSketch(int topN, Duration window, LongSupplier nanoTime) {
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("window must be positive: " + window);
+    }
+    this.topN = topN;
+    this.windowNanos = window.toNanos();
+    this.nanoTime = nanoTime;
+    this.sketch = new SpaceSavingSketch<>(topN * COUNTERS_PER_KEY);
+    this.windowStart = nanoTime.getAsLong();
+  }
+
+  public synchronized void add(K key, long weight) {
+    roll();
+    sketch.add(key, weight);
+  }
+
+  /** Returns the heaviest keys of the last complete window, heaviest first. */
+  public synchronized List<Map.Entry<K, Long>> lastWindow() {
+    roll();
+    return lastWindow;
+  }
+
+  private void roll() {
+    long elapsed = nanoTime.getAsLong() - windowStart;
+    if (elapsed < windowNanos) {
+      return;
+    }
+    if (elapsed < 2 * windowNanos) {
+      lastWindow = Collections.unmodifiableList(sketch.top(topN));
+      windowStart += windowNanos;
+    } else {
+      // nothing was recorded in the last complete window
+      lastWindow = Collections.emptyList();
+      windowStart += elapsed - elapsed % windowNanos;
+    }
+    sketch.clear();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.cpu;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrFeature;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import java.time.Duration;
+import java.util.Optional;
+import jdk.jfr.EventSettings;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * This class feeds the durations of the JFR events of threads blocked on a lock into the shared
+ * {@link LockContentionTracker}, by lock class.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class LockContentionHandler implements RecordedEventHandler {
+  // the sketch bounds the reported locks, this bounds the attributes kept for the seen ones
+  private static final int MAX_LOCK_CLASSES = 1024;
+
+  private final String eventName;
+  private final String lockClassField;
+  private final String lockEvent;
+  private final Duration threshold;
+  private final LockContentionTracker tracker;
+  private final Cache<String, Attributes> attributes = Cache.bounded(MAX_LOCK_CLASSES);
+
+  private LockContentionHandler(
+      String eventName,
+      String lockClassField,
+      String lockEvent,
+      Duration threshold,
+      LockContentionTracker tracker) {
+    this.eventName = eventName;
+    this.lockClassField = lockClassField;
+    this.lockEvent = lockEvent;
+    this.threshold = threshold;
+    this.tracker = tracker;
+  }
+
+  /** Threads waiting on a monitor, in {@link Object#wait()}. */
+  public static LockContentionHandler monitorWait(
+      LockContentionTracker tracker, Duration threshold) {
+    return new LockContentionHandler(
+        "jdk.JavaMonitorWait", "monitorClass", "monitor_wait", threshold, tracker);
+  }
+
+  /** Threads blocked entering a contended monitor. */
+  public static LockContentionHandler monitorEnter(
+      LockContentionTracker tracker, Duration threshold) {
+    return new LockContentionHandler(
+        "jdk.JavaMonitorEnter", "monitorClass", "monitor_enter", threshold, tracker);
+  }
+
+  /** Threads parked, e.g. by the {@code java.util.concurrent} locks. */
+  public static LockContentionHandler threadPark(
+      LockContentionTracker tracker, Duration threshold) {
+    return new LockContentionHandler("jdk.ThreadPark", "parkedClass", "park", threshold, tracker);
+  }
+
+  @Override
+  public void accept(RecordedEvent ev) {
+    RecordedClass lockClass = ev.getClass(lockClassField);
+    if (lockClass == null) {
+      // e.g. parked without a blocker
+      return;
+    }
+    Attributes lock =
+        attributes.computeIfAbsent(
+            lockClass.getName(),
+            name ->
+                Attributes.of(
+                    LockContentionTracker.ATTR_LOCK_CLASS,
+                    name,
+                    LockContentionTracker.ATTR_LOCK_EVENT,
+                    lockEvent));
+    tracker.record(lock, ev.getDuration().toNanos());
+  }
+
+  @Override
+  public String getEventName() {
+    return eventName;
+  }
+
+  @Override
+  public JfrFeature getFeature() {
+    return JfrFeature.LOCK_CONTENTION_METRICS;
+  }
+
+  @Override
+  public Optional<Duration> getThreshold() {
+    return Optional.of(threshold);
+  }
+
+  // only the duration and the lock class are aggregated, the stack traces would be wasted overhead
+  @Override
+  public void configure(EventSettings eventSettings) {
+    eventSettings.withoutStackTrace();
+  }
+
+  @Override
+  public void close() {
+    tracker.close();
+  }
+}
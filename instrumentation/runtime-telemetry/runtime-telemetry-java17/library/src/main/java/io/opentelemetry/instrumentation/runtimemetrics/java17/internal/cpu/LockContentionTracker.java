@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.cpu;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleGauge;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.WindowedSketch;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Accumulates the time threads spent blocked on each lock class, for all the {@link
+ * LockContentionHandler}s, and reports the most contended lock classes of the last time window.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class LockContentionTracker implements AutoCloseable {
+  private static final String METRIC_NAME = "jvm.experimental.cpu.longlock.top";
+  private static final String METRIC_DESCRIPTION =
+      "Time spent blocked on the top contended lock classes in the last complete window.";
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  static final AttributeKey<String> ATTR_LOCK_CLASS = stringKey("jvm.experimental.lock.class");
+  static final AttributeKey<String> ATTR_LOCK_EVENT = stringKey("jvm.experimental.lock.event");
+
+  private final WindowedSketch<Attributes> sketch;
+  private final ObservableDoubleGauge gauge;
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  public LockContentionTracker(Meter meter, int topK, Duration window) {
+    this.sketch = new WindowedSketch<>(topK, window);
+    this.gauge =
+        meter
+            .gaugeBuilder(METRIC_NAME)
+            .setDescription(METRIC_DESCRIPTION)
+            .setUnit(Constants.SECONDS)
+            .buildWithCallback(this::report);
+  }
+
+  void record(Attributes lock, long blockedNanos) {
+    sketch.add(lock, blockedNanos);
+  }
+
+  // the sketch is reset per time window rather than per collection, so that several metric readers
+  // report the same values
+  private void report(ObservableDoubleMeasurement measurement) {
+    for (Map.Entry<Attributes, Long> entry : sketch.lastWindow()) {
+      measurement.record(entry.getValue() / NANOS_PER_SECOND, entry.getKey());
+    }
+  }
+
+  /** Stops reporting, the tracker is shared, so only the first call has an effect. */
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      gauge.close();
+    }
+  }
+}
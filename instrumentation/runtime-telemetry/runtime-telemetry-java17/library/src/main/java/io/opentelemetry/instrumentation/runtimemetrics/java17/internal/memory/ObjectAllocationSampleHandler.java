@@ -0,0 +1,130 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrFeature;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.WindowedSketch;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import jdk.jfr.EventSettings;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+
+/**
+ * This class aggregates the throttled allocation sample JFR events by allocated class, and
+ * optionally by allocating method, and reports the heaviest allocators of the last time window.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ObjectAllocationSampleHandler implements RecordedEventHandler {
+  private static final String METRIC_NAME = "jvm.experimental.memory.allocation.top";
+  private static final String METRIC_DESCRIPTION =
+      "Estimated bytes allocated by the top allocating classes in the last complete window.";
+  private static final String EVENT_NAME = "jdk.ObjectAllocationSample";
+  private static final String OBJECT_CLASS = "objectClass";
+  private static final String WEIGHT = "weight";
+  // same rate as the default JFR configuration, the event is not throttled otherwise
+  private static final String THROTTLE = "150/s";
+
+  static final AttributeKey<String> ATTR_CLASS_NAME =
+      stringKey("jvm.experimental.allocation.class");
+  static final AttributeKey<String> ATTR_FRAME = stringKey("jvm.experimental.allocation.frame");
+
+  private final boolean captureTopFrame;
+  private final WindowedSketch<Attributes> sketch;
+  private final List<AutoCloseable> observables = new ArrayList<>();
+
+  public ObjectAllocationSampleHandler(
+      Meter meter, int topN, boolean captureTopFrame, Duration window) {
+    this.captureTopFrame = captureTopFrame;
+    this.sketch = new WindowedSketch<>(topN, window);
+    observables.add(
+        meter
+            .gaugeBuilder(METRIC_NAME)
+            .setDescription(METRIC_DESCRIPTION)
+            .setUnit(Constants.BYTES)
+            .ofLongs()
+            .buildWithCallback(this::report));
+  }
+
+  @Override
+  public void accept(RecordedEvent ev) {
+    RecordedClass objectClass = ev.getClass(OBJECT_CLASS);
+    if (objectClass == null) {
+      return;
+    }
+    AttributesBuilder attributes = Attributes.builder().put(ATTR_CLASS_NAME, objectClass.getName());
+    if (captureTopFrame) {
+      String frame = topFrame(ev.getStackTrace());
+      if (frame != null) {
+        attributes.put(ATTR_FRAME, frame);
+      }
+    }
+    Attributes key = attributes.build();
+    sketch.add(key, ev.getLong(WEIGHT));
+  }
+
+  @Nullable
+  private static String topFrame(@Nullable RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return null;
+    }
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      if (frame.isJavaFrame()) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+      }
+    }
+    return null;
+  }
+
+  // the sketch is reset per time window rather than per collection, so that several metric readers
+  // report the same values
+  private void report(ObservableLongMeasurement measurement) {
+    for (Map.Entry<Attributes, Long> entry : sketch.lastWindow()) {
+      measurement.record(entry.getValue(), entry.getKey());
+    }
+  }
+
+  @Override
+  public String getEventName() {
+    return EVENT_NAME;
+  }
+
+  @Override
+  public JfrFeature getFeature() {
+    return JfrFeature.ALLOCATION_PROFILING_METRICS;
+  }
+
+  @Override
+  public void configure(EventSettings eventSettings) {
+    eventSettings.with("throttle", THROTTLE);
+    if (captureTopFrame) {
+      eventSettings.withStackTrace();
+    } else {
+      eventSettings.withoutStackTrace();
+    }
+  }
+
+  @Override
+  public void close() {
+    RecordedEventHandler.closeObservables(observables);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants.BYTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class JfrAllocationProfilingTest {
+
+  private static final AttributeKey<String> ATTR_CLASS_NAME =
+      stringKey("jvm.experimental.allocation.class");
+
+  @RegisterExtension
+  JfrExtension jfrExtension =
+      new JfrExtension(
+          builder ->
+              builder
+                  .disableAllFeatures()
+                  .enableFeature(JfrFeature.ALLOCATION_PROFILING_METRICS)
+                  .setAllocationProfilingTopN(5)
+                  .setAllocationProfilingCaptureTopFrame(true)
+                  .setAllocationProfilingWindow(Duration.ofMillis(500)));
+
+  @Test
+  void shouldHaveTopAllocators() throws InterruptedException {
+    List<byte[]> allocations = new ArrayList<>();
+    // allocate in more than one window, the allocations of the last complete window are reported
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 1_000; j++) {
+        allocations.add(new byte[1024]);
+      }
+      Thread.sleep(50);
+    }
+
+    jfrExtension.waitAndAssertMetrics(
+        metric ->
+            metric
+                .hasName("jvm.experimental.memory.allocation.top")
+                .hasUnit(BYTES)
+                .satisfies(
+                    data ->
+                        assertThat(data.getLongGaugeData().getPoints())
+                            .anySatisfy(
+                                point ->
+                                    assertThat(point.getAttributes().get(ATTR_CLASS_NAME))
+                                        .isNotBlank())));
+    allocations.clear();
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import static io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class JfrEventProcessingThreadsTest {
+
+  @RegisterExtension
+  JfrExtension jfrExtension =
+      new JfrExtension(
+          builder ->
+              builder
+                  .disableAllFeatures()
+                  .enableFeature(JfrFeature.LOCK_METRICS)
+                  .setJfrEventProcessingThreads(2));
+
+  @Test
+  void shouldHandleEventsOnProcessingThreads() throws Exception {
+    Object lock = new Object();
+    CountDownLatch waiting = new CountDownLatch(1);
+    Thread waiter =
+        new Thread(
+            () -> {
+              synchronized (lock) {
+                waiting.countDown();
+                try {
+                  lock.wait(500);
+                } catch (InterruptedException exception) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+            });
+    waiter.start();
+    assertThat(waiting.await(10, TimeUnit.SECONDS)).isTrue();
+    waiter.join();
+
+    jfrExtension.waitAndAssertMetrics(
+        metric ->
+            metric
+                .hasName("jvm.cpu.longlock")
+                .hasUnit(SECONDS)
+                .hasHistogramSatisfying(histogram -> {}),
+        metric ->
+            metric
+                .hasName("otel.jfr.processing.lag")
+                .hasUnit(SECONDS)
+                .hasHistogramSatisfying(histogram -> {}));
+  }
+}
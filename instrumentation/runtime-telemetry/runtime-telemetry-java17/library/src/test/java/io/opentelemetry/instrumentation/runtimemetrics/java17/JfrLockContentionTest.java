@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class JfrLockContentionTest {
+
+  private static final AttributeKey<String> ATTR_LOCK_CLASS =
+      stringKey("jvm.experimental.lock.class");
+  private static final AttributeKey<String> ATTR_LOCK_EVENT =
+      stringKey("jvm.experimental.lock.event");
+
+  @RegisterExtension
+  JfrExtension jfrExtension =
+      new JfrExtension(
+          builder ->
+              builder
+                  .disableAllFeatures()
+                  .enableFeature(JfrFeature.LOCK_CONTENTION_METRICS)
+                  .setLockContentionThreshold(Duration.ofMillis(10))
+                  .setLockContentionWindow(Duration.ofMillis(500)));
+
+  private static class ContendedLock {}
+
+  @Test
+  void shouldHaveContendedLocks() throws Exception {
+    ContendedLock lock = new ContendedLock();
+    CountDownLatch locked = new CountDownLatch(1);
+    Thread holder =
+        new Thread(
+            () -> {
+              synchronized (lock) {
+                locked.countDown();
+                try {
+                  Thread.sleep(500);
+                } catch (InterruptedException exception) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+            });
+    holder.start();
+    assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+    synchronized (lock) {
+      // blocked until the holder releases the lock
+    }
+    holder.join();
+
+    jfrExtension.waitAndAssertMetrics(
+        metric ->
+            metric
+                .hasName("jvm.experimental.cpu.longlock.top")
+                .hasUnit(SECONDS)
+                .satisfies(
+                    data ->
+                        assertThat(data.getDoubleGaugeData().getPoints())
+                            .anySatisfy(
+                                point -> {
+                                  assertThat(point.getAttributes().get(ATTR_LOCK_CLASS))
+                                      .isEqualTo(ContendedLock.class.getName());
+                                  assertThat(point.getAttributes().get(ATTR_LOCK_EVENT))
+                                      .isEqualTo("monitor_enter");
+                                  assertThat(point.getValue()).isPositive();
+                                })));
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingSketchTest {
+
+  @Test
+  void countsKeysWithinCapacity() {
+    SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(3);
+    sketch.add("a", 5);
+    sketch.add("b", 10);
+    sketch.add("a", 7);
+
+    assertThat(sketch.top(3)).containsExactly(entry("a", 12L), entry("b", 10L));
+    assertThat(sketch.top(1)).containsExactly(entry("a", 12L));
+  }
+
+  @Test
+  void replacesLightestKey() {
+    SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+    sketch.add("heavy", 100);
+    sketch.add("light", 1);
+    // takes over the weight of the lightest key
+    sketch.add("new", 5);
+
+    assertThat(sketch.top(2)).containsExactly(entry("heavy", 100L), entry("new", 6L));
+  }
+
+  @Test
+  void keepsHeavyHitters() {
+    SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(4);
+    for (int i = 0; i < 1000; i++) {
+      sketch.add("hot", 10);
+      sketch.add("cold" + i, 1);
+    }
+
+    assertThat(sketch.top(1)).containsExactly(entry("hot", 10_000L));
+
+    sketch.clear();
+    assertThat(sketch.top(1)).isEmpty();
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class WindowedSketchTest {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final WindowedSketch<String> sketch =
+      new WindowedSketch<>(2, Duration.ofNanos(100), nanoTime::get);
+
+  @Test
+  void reportsLastCompleteWindow() {
+    sketch.add("a", 5);
+    sketch.add("b", 10);
+    assertThat(sketch.lastWindow()).isEmpty();
+
+    nanoTime.set(150);
+    sketch.add("c", 1);
+    // reading doesn't reset the window
+    assertThat(sketch.lastWindow()).containsExactly(entry("b", 10L), entry("a", 5L));
+    assertThat(sketch.lastWindow()).containsExactly(entry("b", 10L), entry("a", 5L));
+
+    nanoTime.set(200);
+    assertThat(sketch.lastWindow()).containsExactly(entry("c", 1L));
+  }
+
+  @Test
+  void reportsNothingAfterEmptyWindow() {
+    sketch.add("a", 5);
+
+    nanoTime.set(250);
+    assertThat(sketch.lastWindow()).isEmpty();
+
+    sketch.add("b", 1);
+    nanoTime.set(300);
+    assertThat(sketch.lastWindow()).containsExactly(entry("b", 1L));
+  }
+}
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.bootstrap.servlet;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 
 /**
  * The context key here is used to propagate the servlet context path throughout the request, so
@@ -50,6 +51,16 @@ public final class ServletContextPath {
     this.contextPath = contextPath;
   }
 
+  /**
+   * Returns the servlet context path stored in the given {@code context}, or {@code null} if there
+   * is none or if it is empty.
+   */
+  @Nullable
+  public static String get(Context context) {
+    ServletContextPath servletContextPath = context.get(CONTEXT_KEY);
+    return servletContextPath != null ? servletContextPath.contextPath : null;
+  }
+
   /**
    * Returns a concatenation of a servlet context path stored in the given {@code context} and a
    * given {@code spanName}. If there is no servlet path stored in the context, returns {@code
@@ -5,7 +5,10 @@
 
 package io.opentelemetry.javaagent.instrumentation.spring.webmvc.v3_1;
 
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRoute;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRouteGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRouteSource;
 import io.opentelemetry.javaagent.bootstrap.servlet.ServletContextPath;
 import javax.servlet.http.HttpServletRequest;
 import org.springframework.web.servlet.HandlerMapping;
@@ -22,5 +25,23 @@ public class SpringWebMvcServerSpanNaming {
         return null;
       };
 
+  private static final HttpServerRouteGetter<HttpServletRequest> BEST_MATCHING_PATTERN =
+      (context, request) -> {
+        Object bestMatchingPattern =
+            request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return bestMatchingPattern != null ? bestMatchingPattern.toString() : null;
+      };
+
+  public static void updateControllerRoute(Context context, HttpServletRequest request) {
+    // the pattern is only read when the controller route wins, and the route is interned so that
+    // the context path is not concatenated on every request
+    HttpServerRoute.update(
+        context,
+        HttpServerRouteSource.CONTROLLER,
+        ServletContextPath.get(context),
+        BEST_MATCHING_PATTERN,
+        request);
+  }
+
   private SpringWebMvcServerSpanNaming() {}
 }
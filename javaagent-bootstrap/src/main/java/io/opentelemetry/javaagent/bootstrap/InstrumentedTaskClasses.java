@@ -5,8 +5,12 @@
 
 package io.opentelemetry.javaagent.bootstrap;
 
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 public final class InstrumentedTaskClasses {
 
@@ -14,39 +18,67 @@ public final class InstrumentedTaskClasses {
 
   private static final String AGENT_CLASSLOADER_NAME =
       "io.opentelemetry.javaagent.bootstrap.AgentClassLoader";
+  private static final String LAMBDA_MARKER = "$$Lambda";
 
   private static final ClassValue<Boolean> INSTRUMENTED_TASK_CLASS =
       new ClassValue<Boolean>() {
         @Override
         protected Boolean computeValue(Class<?> taskClass) {
-          // do not instrument ignored task classes
-          if (ignoredTaskClassesPredicate.test(taskClass.getName())) {
-            return false;
-          }
           // Don't trace runnables from libraries that are packaged inside the agent.
           // Although GlobalIgnoredTypesConfigurer excludes these classes from instrumentation
           // their instances can still be passed to executors which we have instrumented so we need
           // to exclude them here too.
           ClassLoader taskClassLoader = taskClass.getClassLoader();
-          if (taskClassLoader != null
-              && AGENT_CLASSLOADER_NAME.equals(taskClassLoader.getClass().getName())) {
+          if (taskClassLoader != null && AGENT_CLASS_LOADER.get(taskClassLoader.getClass())) {
             return false;
           }
-          return true;
+          // do not instrument ignored task classes
+          return !isIgnoredTaskClass(taskClass.getName());
         }
       };
 
+  // negative cache of the class loader classes, the agent class loader is checked by name
+  private static final ClassValue<Boolean> AGENT_CLASS_LOADER =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> classLoaderClass) {
+          return AGENT_CLASSLOADER_NAME.equals(classLoaderClass.getName());
+        }
+      };
+
+  // decisions shared by the lambdas, and the other hidden classes, of the same declaring class
+  private static final Cache<String, Boolean> declaringClassDecisions = Cache.bounded(4096);
+
+  private static final SupportabilityMetrics.Counter evaluatedTaskClasses =
+      SupportabilityMetrics.instance().counter(CounterNames.TASK_CLASS_EVALUATED);
+  private static final SupportabilityMetrics.Counter sharedTaskClassDecisions =
+      SupportabilityMetrics.instance().counter(CounterNames.TASK_CLASS_DECISION_SHARED);
+
   private static volatile Predicate<String> ignoredTaskClassesPredicate;
+  // whether a longer ignored task class prefix starts with the given name
+  private static volatile Predicate<String> hasLongerPrefixesPredicate = unused -> true;
 
   /**
    * Sets the configured ignored tasks predicate. This method is called internally from the agent
    * class loader.
    */
   public static void setIgnoredTaskClassesPredicate(Predicate<String> ignoredTasksTriePredicate) {
+    setIgnoredTaskClassesPredicate(ignoredTasksTriePredicate, unused -> true);
+  }
+
+  /**
+   * Sets the configured ignored tasks predicate, and a predicate that tells whether an ignored task
+   * class prefix is longer than, and starts with, a given name. The lambdas, and the other hidden
+   * classes, of a declaring class share a decision only when there is no such prefix for the name
+   * that they have in common. This method is called internally from the agent class loader.
+   */
+  public static void setIgnoredTaskClassesPredicate(
+      Predicate<String> ignoredTasksTriePredicate, Predicate<String> hasLongerPrefixesPredicate) {
     if (InstrumentedTaskClasses.ignoredTaskClassesPredicate != null) {
       logger.warning("Ignored task classes were already set earlier; returning.");
       return;
     }
+    InstrumentedTaskClasses.hasLongerPrefixesPredicate = hasLongerPrefixesPredicate;
     InstrumentedTaskClasses.ignoredTaskClassesPredicate = ignoredTasksTriePredicate;
   }
 
@@ -58,5 +90,45 @@ public final class InstrumentedTaskClasses {
     return INSTRUMENTED_TASK_CLASS.get(taskClass);
   }
 
+  private static boolean isIgnoredTaskClass(String className) {
+    String declaringClassName = hiddenClassDeclaringName(className);
+    if (declaringClassName != null) {
+      Boolean ignored = declaringClassDecisions.get(declaringClassName);
+      if (ignored != null) {
+        sharedTaskClassDecisions.increment();
+        return ignored;
+      }
+    }
+    evaluatedTaskClasses.increment();
+    boolean ignored = ignoredTaskClassesPredicate.test(className);
+    // without a longer prefix, all the names that start with the declaring name have the same
+    // longest matched prefix, and hence the same decision
+    if (declaringClassName != null && !hasLongerPrefixesPredicate.test(declaringClassName)) {
+      declaringClassDecisions.put(declaringClassName, ignored);
+    }
+    return ignored;
+  }
+
+  /**
+   * Returns the name that the lambdas and the other hidden classes of a declaring class have in
+   * common, e.g. {@code com.example.Foo$$Lambda} for {@code com.example.Foo$$Lambda/0x0000000800c0}
+   * or {@code com.example.Foo$$Lambda$14/1149319664}, or {@code null} for the other classes. The
+   * part of the name that is generated differs for each of these classes and is not stable between
+   * runs.
+   */
+  // visible for testing
+  @Nullable
+  static String hiddenClassDeclaringName(String className) {
+    int slash = className.indexOf('/');
+    if (slash == -1) {
+      return null;
+    }
+    int lambda = className.indexOf(LAMBDA_MARKER);
+    if (lambda != -1 && lambda < slash) {
+      return className.substring(0, lambda + LAMBDA_MARKER.length());
+    }
+    return className.substring(0, slash);
+  }
+
   private InstrumentedTaskClasses() {}
 }
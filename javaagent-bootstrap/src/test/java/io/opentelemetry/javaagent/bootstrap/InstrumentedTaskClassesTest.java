@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedTaskClassesTest {
+
+  private static final List<String> ignoredPrefixes = new CopyOnWriteArrayList<>();
+  private static final AtomicInteger evaluated = new AtomicInteger();
+
+  @BeforeAll
+  static void setUp() {
+    ignoredPrefixes.add(InstrumentedTaskClassesTest.class.getName() + "$$Lambda");
+    InstrumentedTaskClasses.setIgnoredTaskClassesPredicate(
+        className -> {
+          evaluated.incrementAndGet();
+          return ignoredPrefixes.stream().anyMatch(className::startsWith);
+        },
+        name ->
+            ignoredPrefixes.stream()
+                .anyMatch(prefix -> prefix.length() > name.length() && prefix.startsWith(name)));
+  }
+
+  @Test
+  void hiddenClassDeclaringName() {
+    assertThat(InstrumentedTaskClasses.hiddenClassDeclaringName("com.example.Foo$$Lambda/0x1234"))
+        .isEqualTo("com.example.Foo$$Lambda");
+    assertThat(InstrumentedTaskClasses.hiddenClassDeclaringName("com.example.Foo$$Lambda$14/1149"))
+        .isEqualTo("com.example.Foo$$Lambda");
+    assertThat(InstrumentedTaskClasses.hiddenClassDeclaringName("com.example.Foo/0x1234"))
+        .isEqualTo("com.example.Foo");
+    assertThat(InstrumentedTaskClasses.hiddenClassDeclaringName("com.example.Foo$1")).isNull();
+  }
+
+  @Test
+  void lambdasShareTheDecisionOfTheirDeclaringClass() {
+    Runnable first = () -> {};
+    Runnable second = () -> {};
+    int evaluatedBefore = evaluated.get();
+
+    assertThat(InstrumentedTaskClasses.canInstrumentTaskClass(first.getClass())).isFalse();
+    assertThat(InstrumentedTaskClasses.canInstrumentTaskClass(second.getClass())).isFalse();
+    // decided by the ClassValue
+    assertThat(InstrumentedTaskClasses.canInstrumentTaskClass(second.getClass())).isFalse();
+
+    assertThat(evaluated.get()).isEqualTo(evaluatedBefore + 1);
+  }
+
+  @Test
+  void lambdasMatchLongerPrefixes() {
+    Runnable first = LongerPrefixTasks.first();
+    Runnable second = LongerPrefixTasks.second();
+    // a prefix that only matches the first lambda
+    ignoredPrefixes.add(first.getClass().getName());
+    int evaluatedBefore = evaluated.get();
+
+    assertThat(InstrumentedTaskClasses.canInstrumentTaskClass(first.getClass())).isFalse();
+    assertThat(InstrumentedTaskClasses.canInstrumentTaskClass(second.getClass())).isTrue();
+
+    assertThat(evaluated.get()).isEqualTo(evaluatedBefore + 2);
+  }
+
+  @Test
+  void otherClassesAreEvaluated() {
+    int evaluatedBefore = evaluated.get();
+
+    assertThat(InstrumentedTaskClasses.canInstrumentTaskClass(Task.class)).isTrue();
+
+    assertThat(evaluated.get()).isEqualTo(evaluatedBefore + 1);
+  }
+
+  static class Task implements Runnable {
+    @Override
+    public void run() {}
+  }
+
+  static class LongerPrefixTasks {
+    static Runnable first() {
+      return () -> {};
+    }
+
+    static Runnable second() {
+      return () -> {};
+    }
+
+    private LongerPrefixTasks() {}
+  }
+}
@@ -10,7 +10,8 @@ import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldName
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getVirtualFieldImplementationClassName;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
+import io.opentelemetry.instrumentation.api.internal.cache.CompactWeakCache;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.javaagent.extension.instrumentation.internal.AsmApi;
 import io.opentelemetry.javaagent.tooling.Utils;
@@ -128,6 +129,12 @@ final class VirtualFieldImplementationsGenerator {
             } else if ("realPut".equals(name)) {
               generateRealPutMethod(name);
               return null;
+            } else if ("typeName".equals(name)) {
+              generateConstantMethod(name, typeName);
+              return null;
+            } else if ("fieldTypeName".equals(name)) {
+              generateConstantMethod(name, fieldTypeName);
+              return null;
             } else {
               return super.visitMethod(access, name, descriptor, signature, exceptions);
             }
@@ -246,9 +253,38 @@ final class VirtualFieldImplementationsGenerator {
             mv.visitEnd();
           }
 
+          /**
+           * Provides implementation for a method that returns a constant string.
+           *
+           * <blockquote>
+           *
+           * <pre>
+           * private static String $name() {
+           *   return "$value";
+           * }
+           * </pre>
+           *
+           * </blockquote>
+           *
+           * @param name name of the method being visited
+           * @param value the constant returned by the method
+           */
+          private void generateConstantMethod(String name, String value) {
+            MethodVisitor mv = getMethodVisitor(name, Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC);
+            mv.visitCode();
+            mv.visitLdcInsn(value);
+            mv.visitInsn(Opcodes.ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+          }
+
           private MethodVisitor getMethodVisitor(String methodName) {
+            return getMethodVisitor(methodName, Opcodes.ACC_PRIVATE);
+          }
+
+          private MethodVisitor getMethodVisitor(String methodName, int access) {
             return cv.visitMethod(
-                Opcodes.ACC_PRIVATE,
+                access,
                 methodName,
                 Utils.getMethodDefinition(instrumentedType, methodName).getDescriptor(),
                 null,
@@ -267,12 +303,17 @@ final class VirtualFieldImplementationsGenerator {
   @SuppressWarnings({"UnusedMethod", "UnusedVariable", "MethodCanBeStatic"})
   static final class VirtualFieldImplementationTemplate extends VirtualField<Object, Object> {
     private static final VirtualFieldImplementationTemplate INSTANCE =
-        new VirtualFieldImplementationTemplate(Cache.weak());
+        new VirtualFieldImplementationTemplate(new CompactWeakCache<>());
 
-    private final Cache<Object, Object> map;
+    private final CompactWeakCache<Object, Object> map;
+    // counts the writes that could not use the injected field, per virtual field
+    private final SupportabilityMetrics.VirtualFieldFallback fallback;
 
-    private VirtualFieldImplementationTemplate(Cache<Object, Object> map) {
+    private VirtualFieldImplementationTemplate(CompactWeakCache<Object, Object> map) {
       this.map = map;
+      this.fallback =
+          SupportabilityMetrics.instance()
+              .virtualFieldFallback(typeName(), fieldTypeName(), map::approximateSize);
     }
 
     @Override
@@ -294,11 +335,22 @@ final class VirtualFieldImplementationsGenerator {
       // to be generated
     }
 
+    private static String typeName() {
+      // to be generated
+      return null;
+    }
+
+    private static String fieldTypeName() {
+      // to be generated
+      return null;
+    }
+
     private Object mapGet(Object key) {
       return map.get(key);
     }
 
     private void mapPut(Object key, Object value) {
+      fallback.recordWrite();
       if (value == null) {
         map.remove(key);
       } else {
@@ -29,6 +29,7 @@ import io.opentelemetry.javaagent.tooling.instrumentation.indy.IndyTypeTransform
 import io.opentelemetry.javaagent.tooling.instrumentation.indy.PatchByteCodeVersionTransformer;
 import io.opentelemetry.javaagent.tooling.muzzle.HelperResourceBuilderImpl;
 import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationModuleMuzzle;
+import io.opentelemetry.javaagent.tooling.startupcache.StartupCacheMatcher;
 import io.opentelemetry.javaagent.tooling.util.IgnoreFailedTypeMatcher;
 import io.opentelemetry.javaagent.tooling.util.NamedMatcher;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
@@ -146,7 +147,7 @@ public final class InstrumentationModuleInstaller {
     for (TypeInstrumentation typeInstrumentation : instrumentationModule.typeInstrumentations()) {
       AgentBuilder.Identified.Extendable extendableAgentBuilder =
           setTypeMatcher(agentBuilder, instrumentationModule, typeInstrumentation)
-              .and(muzzleMatcher)
+              .and(StartupCacheMatcher.muzzleMatcher(muzzleMatcher))
               .transform(new PatchByteCodeVersionTransformer());
 
       // TODO (Jonas): we are not calling
@@ -207,7 +208,7 @@ public final class InstrumentationModuleInstaller {
 
       AgentBuilder.Identified.Extendable extendableAgentBuilder =
           setTypeMatcher(agentBuilder, instrumentationModule, typeInstrumentation)
-              .and(muzzleMatcher)
+              .and(StartupCacheMatcher.muzzleMatcher(muzzleMatcher))
               .transform(ConstantAdjuster.instance())
               .transform(helperInjector);
       extendableAgentBuilder = contextProvider.injectHelperClasses(extendableAgentBuilder);
@@ -244,13 +245,18 @@ public final class InstrumentationModuleInstaller {
                 + typeInstrumentation.getClass().getSimpleName(),
             moduleClassLoaderMatcher.and(typeInstrumentation.classLoaderOptimization()));
 
+    ElementMatcher<TypeDescription> failSafeTypeMatcher =
+        new LoggingFailSafeMatcher<>(
+            typeMatcher, "Instrumentation type matcher unexpected exception: " + typeMatcher);
     return agentBuilder
         .type(
-            new LoggingFailSafeMatcher<>(
-                typeMatcher, "Instrumentation type matcher unexpected exception: " + typeMatcher),
-            new LoggingFailSafeMatcher<>(
-                classLoaderMatcher,
-                "Instrumentation class loader matcher unexpected exception: " + classLoaderMatcher))
+            failSafeTypeMatcher,
+            StartupCacheMatcher.classLoaderMatcher(
+                new LoggingFailSafeMatcher<>(
+                    classLoaderMatcher,
+                    "Instrumentation class loader matcher unexpected exception: "
+                        + classLoaderMatcher),
+                failSafeTypeMatcher))
         .and(
             (typeDescription, classLoader, module, classBeingRedefined, protectionDomain) ->
                 classLoader == null || NOT_DECORATOR_MATCHER.matches(typeDescription));
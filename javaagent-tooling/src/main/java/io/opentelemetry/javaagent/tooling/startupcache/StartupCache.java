@@ -0,0 +1,397 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.startupcache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.javaagent.tooling.AgentVersion;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Persists the outcome of the type matching of the previous runs, so that later starts can skip
+ * matching the classes that no instrumentation transformed.
+ *
+ * <p>The outcomes are recorded per jar, identified by its location, size and modification time.
+ * The cache file is keyed by the agent jar, the extensions and the {@code otel.instrumentation.*}
+ * and {@code otel.javaagent.*} configuration, a change to any of them starts from an empty cache.
+ * A class is only recorded when the type matchers of all the instrumentations rejected it, and when
+ * it was not transformed in any class loader. The classes that an instrumentation did not transform
+ * only because of its class loader matcher or of muzzle, which depend on the other jars of the
+ * class loader, are matched again on every start.
+ */
+public final class StartupCache {
+
+  private static final Logger logger = Logger.getLogger(StartupCache.class.getName());
+
+  static final String DIRECTORY_CONFIG = "otel.javaagent.experimental.startup-cache.directory";
+  private static final String EXTENSIONS_CONFIG = "otel.javaagent.extensions";
+
+  private static final String FILE_PREFIX = "otel-startup-cache-";
+  private static final String FILE_SUFFIX = ".txt";
+  private static final String FILE_HEADER = "# OpenTelemetry javaagent startup cache v1";
+  private static final String JAR = "j";
+  private static final String IGNORED_CLASS = "i";
+  private static final String NO_FINGERPRINT = "";
+  // the directory can be shared, e.g. by services with different extensions, the files of the other
+  // services are only removed after they were not written for this long
+  private static final long STALE_FILE_AGE_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+  @Nullable private static volatile StartupCache instance;
+
+  private final Path file;
+  // jar fingerprint -> names of the classes of the jar that no instrumentation transformed
+  private final ConcurrentMap<String, Set<String>> ignoredClasses = new ConcurrentHashMap<>();
+  // jar fingerprint -> names of the classes of the jar that were transformed in this run, e.g. in
+  // another class loader than the one in which they were not, these are never ignored
+  private final ConcurrentMap<String, Set<String>> transformedClasses = new ConcurrentHashMap<>();
+  private final Cache<CodeSource, String> fingerprints = Cache.weak();
+  private final AtomicBoolean modified = new AtomicBoolean();
+
+  StartupCache(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Loads the cache when the {@code otel.javaagent.experimental.startup-cache.directory} is
+   * configured, and writes it back when the JVM shuts down.
+   */
+  @Nullable
+  public static StartupCache initialize(ConfigProperties config, @Nullable File javaagentFile) {
+    String directory = config.getString(DIRECTORY_CONFIG);
+    if (directory == null || directory.isEmpty()) {
+      return null;
+    }
+    String key = cacheKey(javaagentFile, config.getString(EXTENSIONS_CONFIG));
+    if (key == null) {
+      return null;
+    }
+    StartupCache startupCache =
+        new StartupCache(Paths.get(directory, FILE_PREFIX + key + FILE_SUFFIX));
+    startupCache.load();
+    Thread writer = new Thread(startupCache::save, "otel-startup-cache-writer");
+    Runtime.getRuntime().addShutdownHook(writer);
+    instance = startupCache;
+    return startupCache;
+  }
+
+  /** Returns the cache, or {@code null} when it is not enabled. */
+  @Nullable
+  public static StartupCache get() {
+    return instance;
+  }
+
+  /**
+   * Returns the fingerprint of the jar of the protection domain, or {@code null} when the classes
+   * don't come from a jar.
+   */
+  @Nullable
+  public String fingerprint(@Nullable ProtectionDomain protectionDomain) {
+    CodeSource codeSource = protectionDomain == null ? null : protectionDomain.getCodeSource();
+    if (codeSource == null) {
+      return null;
+    }
+    String fingerprint = fingerprints.computeIfAbsent(codeSource, StartupCache::computeFingerprint);
+    return fingerprint.equals(NO_FINGERPRINT) ? null : fingerprint;
+  }
+
+  private static String computeFingerprint(CodeSource codeSource) {
+    URL location = codeSource.getLocation();
+    if (location == null) {
+      return NO_FINGERPRINT;
+    }
+    String url = location.toString();
+    try {
+      File jar = jarFile(url);
+      if (jar != null) {
+        return url + '|' + jar.length() + '|' + jar.lastModified();
+      }
+    } catch (Exception e) {
+      logger.log(FINE, "Unable to fingerprint " + url, e);
+    }
+    return NO_FINGERPRINT;
+  }
+
+  /** Returns the jar file that contains the classes of the code source location. */
+  @Nullable
+  static File jarFile(String url) throws URISyntaxException {
+    if (url.startsWith("file:") && url.endsWith(".jar")) {
+      return new File(new URI(url));
+    }
+    String nestedUrl = url.startsWith("jar:") ? url.substring("jar:".length()) : url;
+    // nested jar, e.g. jar:file:/app.jar!/BOOT-INF/lib/lib.jar!/
+    int separator = nestedUrl.indexOf("!/");
+    if (nestedUrl.startsWith("file:") && separator > 0) {
+      return new File(new URI(nestedUrl.substring(0, separator)));
+    }
+    // nested jar or directory of spring boot 3.2+, e.g. jar:nested:/app.jar/!BOOT-INF/lib/lib.jar!/
+    // or nested:/app.jar/!BOOT-INF/classes/!/
+    separator = nestedUrl.indexOf("/!");
+    if (nestedUrl.startsWith("nested:") && separator > 0) {
+      return new File(new URI("file:" + nestedUrl.substring("nested:".length(), separator)));
+    }
+    return null;
+  }
+
+  /** Returns whether no instrumentation transformed the class in a previous run. */
+  public boolean isIgnoredClass(String jar, String className) {
+    return contains(ignoredClasses, jar, className);
+  }
+
+  public void recordIgnoredClass(String jar, String className) {
+    // the names of lambdas and other generated classes change between runs
+    if (className.contains("$$")) {
+      return;
+    }
+    if (contains(transformedClasses, jar, className)) {
+      return;
+    }
+    if (add(ignoredClasses, jar, className)) {
+      modified.set(true);
+    }
+  }
+
+  public void recordTransformedClass(String jar, String className) {
+    add(transformedClasses, jar, className);
+    Set<String> classNames = ignoredClasses.get(jar);
+    if (classNames != null && classNames.remove(className)) {
+      modified.set(true);
+    }
+  }
+
+  private static boolean contains(
+      ConcurrentMap<String, Set<String>> namesByJar, String jar, String name) {
+    Set<String> names = namesByJar.get(jar);
+    return names != null && names.contains(name);
+  }
+
+  private static boolean add(
+      ConcurrentMap<String, Set<String>> namesByJar, String jar, String name) {
+    return namesByJar.computeIfAbsent(jar, unused -> ConcurrentHashMap.newKeySet()).add(name);
+  }
+
+  void load() {
+    Map<String, String> jars = new HashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] parts = line.split("\t", 3);
+        if (parts.length != 3) {
+          continue;
+        }
+        if (parts[0].equals(JAR)) {
+          jars.put(parts[1], parts[2]);
+          continue;
+        }
+        String jar = jars.get(parts[1]);
+        if (jar == null) {
+          continue;
+        }
+        if (parts[0].equals(IGNORED_CLASS)) {
+          add(ignoredClasses, jar, parts[2]);
+        }
+      }
+      logger.log(FINE, "Loaded startup cache {0}", file);
+    } catch (NoSuchFileException e) {
+      logger.log(FINE, "Startup cache {0} does not exist yet", file);
+    } catch (IOException e) {
+      logger.log(WARNING, "Unable to read startup cache " + file, e);
+    }
+  }
+
+  void save() {
+    pruneStaleFiles();
+    if (!modified.get()) {
+      touch();
+      return;
+    }
+    try {
+      Files.createDirectories(file.getParent());
+      Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(temp, UTF_8)) {
+        writer.write(FILE_HEADER);
+        writer.newLine();
+        // a class can be recorded as ignored concurrently with its transformation
+        write(writer, IGNORED_CLASS, ignoredClasses, transformedClasses);
+      }
+      // readers of a shared directory see either the previous or the new file
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      logger.log(FINE, "Saved startup cache {0}", file);
+    } catch (IOException e) {
+      logger.log(WARNING, "Unable to write startup cache " + file, e);
+    }
+  }
+
+  // keeps the file from being pruned by the other runs that share the directory
+  private void touch() {
+    try {
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (NoSuchFileException e) {
+      // nothing was cached yet
+    } catch (IOException e) {
+      logger.log(FINE, "Unable to update the modification time of " + file, e);
+    }
+  }
+
+  // the files of a previous agent version or configuration are not read anymore
+  private void pruneStaleFiles() {
+    Path directory = file.getParent();
+    if (directory == null || !Files.isDirectory(directory)) {
+      return;
+    }
+    long staleBefore = System.currentTimeMillis() - STALE_FILE_AGE_MILLIS;
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+      for (Path candidate : files) {
+        if (!candidate.getFileName().equals(file.getFileName())
+            && Files.getLastModifiedTime(candidate).toMillis() < staleBefore) {
+          Files.deleteIfExists(candidate);
+        }
+      }
+    } catch (IOException e) {
+      logger.log(FINE, "Unable to remove stale startup cache files from " + directory, e);
+    }
+  }
+
+  private static void write(
+      BufferedWriter writer,
+      String type,
+      Map<String, Set<String>> namesByJar,
+      Map<String, Set<String>> excludedNamesByJar)
+      throws IOException {
+    int jarCount = 0;
+    for (Map.Entry<String, Set<String>> entry : namesByJar.entrySet()) {
+      String jarId = Integer.toString(jarCount++);
+      Set<String> excludedNames =
+          excludedNamesByJar.getOrDefault(entry.getKey(), Collections.emptySet());
+      writeLine(writer, JAR, jarId, entry.getKey());
+      for (String name : entry.getValue()) {
+        if (!excludedNames.contains(name)) {
+          writeLine(writer, type, jarId, name);
+        }
+      }
+    }
+  }
+
+  private static void writeLine(BufferedWriter writer, String type, String id, String value)
+      throws IOException {
+    writer.write(type);
+    writer.write('\t');
+    writer.write(id);
+    writer.write('\t');
+    writer.write(value);
+    writer.newLine();
+  }
+
+  @Nullable
+  private static String cacheKey(@Nullable File javaagentFile, @Nullable String extensions) {
+    List<String> parts = new ArrayList<>();
+    parts.add(String.valueOf(AgentVersion.VERSION));
+    if (javaagentFile != null) {
+      parts.add(fileFingerprint(javaagentFile));
+    }
+    if (extensions != null) {
+      for (String extension : extensions.split(",")) {
+        File location = new File(extension);
+        File[] files = location.isDirectory() ? location.listFiles() : new File[] {location};
+        if (files != null) {
+          Arrays.sort(files);
+          for (File file : files) {
+            parts.add(fileFingerprint(file));
+          }
+        }
+      }
+    }
+    // the instrumentation and agent configuration decide which instrumentations are installed and
+    // what they match, the configuration file is only fingerprinted
+    Map<String, String> config = new TreeMap<>();
+    System.getProperties()
+        .forEach(
+            (name, value) -> {
+              if (isMatchingConfig(name.toString())) {
+                config.put(name.toString(), value.toString());
+              }
+            });
+    System.getenv()
+        .forEach(
+            (name, value) -> {
+              if (isMatchingConfig(name)) {
+                config.put(name, value);
+              }
+            });
+    config.forEach((name, value) -> parts.add(name + '=' + value));
+    String configurationFile = config.get("otel.javaagent.configuration-file");
+    if (configurationFile == null) {
+      configurationFile = config.get("OTEL_JAVAAGENT_CONFIGURATION_FILE");
+    }
+    if (configurationFile != null) {
+      parts.add(fileFingerprint(new File(configurationFile)));
+    }
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String part : parts) {
+        digest.update(part.getBytes(UTF_8));
+        digest.update((byte) 0);
+      }
+      StringBuilder key = new StringBuilder();
+      byte[] hash = digest.digest();
+      for (int i = 0; i < 16; i++) {
+        key.append(Character.forDigit((hash[i] >> 4) & 0xF, 16))
+            .append(Character.forDigit(hash[i] & 0xF, 16));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException e) {
+      logger.log(WARNING, "Unable to compute the startup cache key, the cache is disabled", e);
+      return null;
+    }
+  }
+
+  private static boolean isMatchingConfig(String name) {
+    return name.startsWith("otel.instrumentation.")
+        || name.startsWith("otel.javaagent.")
+        || name.startsWith("OTEL_INSTRUMENTATION_")
+        || name.startsWith("OTEL_JAVAAGENT_");
+  }
+
+  private static String fileFingerprint(File file) {
+    return file.getAbsolutePath() + '|' + file.length() + '|' + file.lastModified();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.startupcache;
+
+import io.opentelemetry.javaagent.extension.matcher.internal.DelegatingMatcher;
+import java.security.ProtectionDomain;
+import javax.annotation.Nullable;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.utility.JavaModule;
+
+/**
+ * Ignores the classes that no instrumentation transformed in a previous run. Registered also as a
+ * listener, it records the classes that were not transformed in this run: the ignore matcher is the
+ * only one that sees the protection domain, it hands the jar over to the listener callbacks that
+ * follow on the same thread. A class is not recorded when an instrumentation rejected it by its
+ * class loader matcher or by muzzle rather than by its type matcher, see {@link
+ * #classLoaderMatcher(ElementMatcher, ElementMatcher)} and {@link
+ * #muzzleMatcher(AgentBuilder.RawMatcher)}.
+ */
+public final class StartupCacheMatcher extends AgentBuilder.Listener.Adapter
+    implements AgentBuilder.RawMatcher {
+
+  private static final ThreadLocal<Pending> pending = new ThreadLocal<>();
+
+  private final StartupCache startupCache;
+
+  public StartupCacheMatcher(StartupCache startupCache) {
+    this.startupCache = startupCache;
+  }
+
+  @Override
+  public boolean matches(
+      TypeDescription typeDescription,
+      ClassLoader classLoader,
+      JavaModule module,
+      Class<?> classBeingRedefined,
+      ProtectionDomain protectionDomain) {
+    // the classes loaded before the agent was installed are always matched
+    if (classBeingRedefined != null) {
+      return false;
+    }
+    String jar = startupCache.fingerprint(protectionDomain);
+    if (jar == null) {
+      return false;
+    }
+    String className = typeDescription.getName();
+    if (startupCache.isIgnoredClass(jar, className)) {
+      return true;
+    }
+    pending.set(new Pending(typeDescription, jar));
+    return false;
+  }
+
+  /**
+   * Returns the class loader matcher of a transformation, which prevents recording the class that
+   * is being matched when it would be transformed in another class loader.
+   */
+  public static ElementMatcher<ClassLoader> classLoaderMatcher(
+      ElementMatcher<ClassLoader> classLoaderMatcher, ElementMatcher<TypeDescription> typeMatcher) {
+    if (StartupCache.get() == null) {
+      return classLoaderMatcher;
+    }
+    return new ClassLoaderMatcher(classLoaderMatcher, typeMatcher);
+  }
+
+  /**
+   * Returns the muzzle matcher of a transformation, which prevents recording the class that is
+   * being matched when it is rejected by muzzle.
+   */
+  public static AgentBuilder.RawMatcher muzzleMatcher(AgentBuilder.RawMatcher muzzleMatcher) {
+    if (StartupCache.get() == null) {
+      return muzzleMatcher;
+    }
+    return (typeDescription, classLoader, module, classBeingRedefined, protectionDomain) -> {
+      if (muzzleMatcher.matches(
+          typeDescription, classLoader, module, classBeingRedefined, protectionDomain)) {
+        return true;
+      }
+      Pending current = pending.get();
+      if (current != null && current.isFor(typeDescription)) {
+        current.recordIgnored = false;
+      }
+      return false;
+    };
+  }
+
+  @Override
+  public void onIgnored(
+      TypeDescription typeDescription,
+      ClassLoader classLoader,
+      JavaModule module,
+      boolean loaded) {
+    Pending current = takePending(typeDescription);
+    if (current != null && current.recordIgnored) {
+      startupCache.recordIgnoredClass(current.jar, typeDescription.getName());
+    }
+  }
+
+  @Override
+  public void onTransformation(
+      TypeDescription typeDescription,
+      ClassLoader classLoader,
+      JavaModule module,
+      boolean loaded,
+      DynamicType dynamicType) {
+    Pending current = takePending(typeDescription);
+    if (current != null) {
+      startupCache.recordTransformedClass(current.jar, typeDescription.getName());
+    }
+  }
+
+  @Override
+  public void onComplete(
+      String typeName, ClassLoader classLoader, JavaModule module, boolean loaded) {
+    pending.remove();
+  }
+
+  @Nullable
+  private static Pending takePending(TypeDescription typeDescription) {
+    Pending current = pending.get();
+    pending.remove();
+    // a class loaded while transforming another one replaces the pending class of the thread
+    return current != null && current.isFor(typeDescription) ? current : null;
+  }
+
+  private static final class ClassLoaderMatcher
+      implements ElementMatcher<ClassLoader>, DelegatingMatcher {
+    private final ElementMatcher<ClassLoader> delegate;
+    private final ElementMatcher<TypeDescription> typeMatcher;
+
+    private ClassLoaderMatcher(
+        ElementMatcher<ClassLoader> delegate, ElementMatcher<TypeDescription> typeMatcher) {
+      this.delegate = delegate;
+      this.typeMatcher = typeMatcher;
+    }
+
+    @Override
+    public boolean matches(ClassLoader classLoader) {
+      if (delegate.matches(classLoader)) {
+        return true;
+      }
+      // the type matcher is not evaluated when the class loader matcher rejects the class
+      Pending current = pending.get();
+      if (current != null
+          && current.recordIgnored
+          && typeMatcher.matches(current.typeDescription)) {
+        current.recordIgnored = false;
+      }
+      return false;
+    }
+
+    @Override
+    public ElementMatcher<?> getDelegate() {
+      return delegate;
+    }
+
+    @Override
+    public String toString() {
+      return delegate.toString();
+    }
+  }
+
+  private static final class Pending {
+    private final TypeDescription typeDescription;
+    private final String jar;
+    // cleared when the class is not recorded even if it is not transformed
+    private boolean recordIgnored = true;
+
+    private Pending(TypeDescription typeDescription, String jar) {
+      this.typeDescription = typeDescription;
+      this.jar = jar;
+    }
+
+    private boolean isFor(TypeDescription typeDescription) {
+      return this.typeDescription.getName().equals(typeDescription.getName());
+    }
+  }
+}
@@ -38,6 +38,13 @@ public interface Trie<V> {
     return getOrNull(str) != null;
   }
 
+  /**
+   * Returns {@code true} if this trie contains a prefix that starts with {@code str} and is longer
+   * than it. When it does not, all the strings that start with {@code str} have the same longest
+   * matched prefix as {@code str}.
+   */
+  boolean hasLongerPrefixes(CharSequence str);
+
   interface Builder<V> {
 
     /** Associate {@code value} with the string {@code str}. */
@@ -39,6 +39,18 @@ final class TrieImpl<V> implements Trie<V> {
     return lastMatchedValue;
   }
 
+  @Override
+  public boolean hasLongerPrefixes(CharSequence str) {
+    Node<V> node = root;
+    for (int i = 0; i < str.length(); ++i) {
+      node = node.getNext(str.charAt(i));
+      if (node == null) {
+        return false;
+      }
+    }
+    return node.chars.length != 0;
+  }
+
   static final class Node<V> {
     final char[] chars;
     final Node<V>[] children;
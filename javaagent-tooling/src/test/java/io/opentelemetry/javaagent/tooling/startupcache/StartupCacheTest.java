@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.startupcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StartupCacheTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void savesAndLoadsDecisions() {
+    Path file = tempDir.resolve("cache.txt");
+    StartupCache startupCache = new StartupCache(file);
+    startupCache.recordIgnoredClass("a.jar", "com.example.Foo");
+    startupCache.recordIgnoredClass("a.jar", "com.example.Foo$$Lambda$1");
+    startupCache.recordIgnoredClass("b.jar", "com.example.Bar");
+    startupCache.save();
+
+    StartupCache loaded = new StartupCache(file);
+    loaded.load();
+    assertThat(loaded.isIgnoredClass("a.jar", "com.example.Foo")).isTrue();
+    assertThat(loaded.isIgnoredClass("a.jar", "com.example.Foo$$Lambda$1")).isFalse();
+    assertThat(loaded.isIgnoredClass("b.jar", "com.example.Foo")).isFalse();
+    assertThat(loaded.isIgnoredClass("b.jar", "com.example.Bar")).isTrue();
+  }
+
+  @Test
+  void transformedClassesAreNotIgnored() {
+    Path file = tempDir.resolve("cache.txt");
+    StartupCache startupCache = new StartupCache(file);
+    // e.g. the same jar in two class loaders, only one of them matched by the instrumentation
+    startupCache.recordIgnoredClass("a.jar", "com.example.Foo");
+    startupCache.recordTransformedClass("a.jar", "com.example.Foo");
+    startupCache.recordIgnoredClass("a.jar", "com.example.Foo");
+    startupCache.recordTransformedClass("a.jar", "com.example.Bar");
+    startupCache.recordIgnoredClass("a.jar", "com.example.Bar");
+    startupCache.recordIgnoredClass("a.jar", "com.example.Baz");
+    assertThat(startupCache.isIgnoredClass("a.jar", "com.example.Foo")).isFalse();
+    assertThat(startupCache.isIgnoredClass("a.jar", "com.example.Bar")).isFalse();
+    startupCache.save();
+
+    StartupCache loaded = new StartupCache(file);
+    loaded.load();
+    assertThat(loaded.isIgnoredClass("a.jar", "com.example.Foo")).isFalse();
+    assertThat(loaded.isIgnoredClass("a.jar", "com.example.Bar")).isFalse();
+    assertThat(loaded.isIgnoredClass("a.jar", "com.example.Baz")).isTrue();
+  }
+
+  @Test
+  void removesStaleFiles() throws Exception {
+    Path stale = Files.createFile(tempDir.resolve("otel-startup-cache-stale.txt"));
+    Files.setLastModifiedTime(
+        stale, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(8)));
+    // e.g. of another service with different extensions sharing the directory
+    Path recent = Files.createFile(tempDir.resolve("otel-startup-cache-recent.txt"));
+    Path other = Files.createFile(tempDir.resolve("other.txt"));
+    Files.setLastModifiedTime(
+        other, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(8)));
+    StartupCache startupCache = new StartupCache(tempDir.resolve("otel-startup-cache-key.txt"));
+    startupCache.recordIgnoredClass("a.jar", "com.example.Foo");
+    startupCache.save();
+
+    assertThat(stale).doesNotExist();
+    assertThat(recent).exists();
+    assertThat(other).exists();
+    assertThat(tempDir.resolve("otel-startup-cache-key.txt")).exists();
+  }
+
+  @Test
+  void unmodifiedFileIsKeptRecent() throws Exception {
+    Path file = tempDir.resolve("otel-startup-cache-key.txt");
+    StartupCache startupCache = new StartupCache(file);
+    startupCache.recordIgnoredClass("a.jar", "com.example.Foo");
+    startupCache.save();
+    FileTime old = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(8));
+    Files.setLastModifiedTime(file, old);
+
+    StartupCache loaded = new StartupCache(file);
+    loaded.load();
+    loaded.save();
+
+    assertThat(Files.getLastModifiedTime(file)).isGreaterThan(old);
+  }
+
+  @Test
+  void loadsMissingFile() {
+    StartupCache startupCache = new StartupCache(tempDir.resolve("missing.txt"));
+    startupCache.load();
+    assertThat(startupCache.isIgnoredClass("a.jar", "com.example.Foo")).isFalse();
+  }
+
+  @Test
+  void fingerprintChangesWithJar() throws Exception {
+    File jar = tempDir.resolve("lib.jar").toFile();
+    Files.write(jar.toPath(), new byte[] {1});
+    StartupCache startupCache = new StartupCache(tempDir.resolve("cache.txt"));
+
+    String fingerprint = startupCache.fingerprint(protectionDomain(jar.toURI().toURL()));
+    assertThat(fingerprint).isNotNull();
+    Files.write(jar.toPath(), new byte[] {1, 2});
+    // fingerprints are memoized per code source instance, the class loader creates a new one
+    assertThat(startupCache.fingerprint(protectionDomain(jar.toURI().toURL())))
+        .isNotNull()
+        .isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  void noFingerprintForDirectories() throws Exception {
+    StartupCache startupCache = new StartupCache(tempDir.resolve("cache.txt"));
+    assertThat(startupCache.fingerprint(protectionDomain(tempDir.toUri().toURL()))).isNull();
+    assertThat(startupCache.fingerprint(null)).isNull();
+  }
+
+  @Test
+  void jarFileOfNestedJars() throws Exception {
+    assertThat(StartupCache.jarFile("file:/app/lib.jar")).isEqualTo(new File("/app/lib.jar"));
+    assertThat(StartupCache.jarFile("jar:file:/app/app.jar!/BOOT-INF/lib/lib.jar!/"))
+        .isEqualTo(new File("/app/app.jar"));
+    // spring boot 3.2+
+    assertThat(StartupCache.jarFile("jar:nested:/app/app.jar/!BOOT-INF/lib/lib.jar!/"))
+        .isEqualTo(new File("/app/app.jar"));
+    assertThat(StartupCache.jarFile("nested:/app/app.jar/!BOOT-INF/classes/!/"))
+        .isEqualTo(new File("/app/app.jar"));
+    assertThat(StartupCache.jarFile("file:/app/classes/")).isNull();
+  }
+
+  private static ProtectionDomain protectionDomain(URL location) {
+    return new ProtectionDomain(new CodeSource(location, (Certificate[]) null), null);
+  }
+}
@@ -44,6 +44,17 @@ class TrieTest {
     assertEquals(12, trie.getOrNull("abc"));
   }
 
+  @Test
+  void shouldFindLongerPrefixes() {
+    Trie<Integer> trie = Trie.<Integer>builder().put("abc", 0).put("abcde", 10).build();
+
+    assertTrue(trie.hasLongerPrefixes("ab"));
+    assertTrue(trie.hasLongerPrefixes("abcd"));
+    assertFalse(trie.hasLongerPrefixes("abcde"));
+    assertFalse(trie.hasLongerPrefixes("abcdef"));
+    assertFalse(trie.hasLongerPrefixes("abd"));
+  }
+
   @Test
   void shouldReturnDefaultValueWhenNotMatched() {
     Trie<Integer> trie = Trie.<Integer>builder().put("abc", 42).build();